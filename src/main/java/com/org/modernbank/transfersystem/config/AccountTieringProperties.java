@@ -0,0 +1,33 @@
+package com.org.modernbank.transfersystem.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings of the account memory tiers read from application.properties
+ * (prefix "accounts.tiering")
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "accounts.tiering")
+public class AccountTieringProperties {
+
+    private boolean enabled = true;
+
+    // heap allowed for resident transaction histories before dormant ones are evicted
+    private long heapBudgetMb = 256;
+
+    // an account is only evicted once it has not been used for this long
+    private long minIdleSeconds = 60;
+
+    private long sweepIntervalMillis = 1_000;
+
+    // directory of the cold tier segment files
+    private String path = "account-store";
+}
@@ -0,0 +1,49 @@
+package com.org.modernbank.transfersystem.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings of the account event stream read from application.properties
+ * (prefix "events")
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "events")
+public class EventProperties {
+
+    // events retained for subscribers, rounded up to a power of two
+    private int bufferSize = 65_536;
+
+    private int maxBatchSize = 512;
+
+    // open subscriptions, each one holds a thread while it is open
+    private int maxSubscribers = 64;
+
+    // an HTTP stream is closed after this long and the client reconnects,
+    // so streams of clients that went away without a word are reclaimed
+    private long sseTimeoutMillis = 1_800_000;
+
+    // bulk imported accounts are published like accounts created one at a time,
+    // turn off for imports large enough to overrun the buffer
+    private boolean publishImports = true;
+
+    private FileSink fileSink = new FileSink();
+
+    /**
+     * Local NDJSON file the events are appended to
+     */
+    @Getter
+    @Setter
+    public static class FileSink {
+
+        private boolean enabled = false;
+        private String path = "account-events.ndjson";
+    }
+}
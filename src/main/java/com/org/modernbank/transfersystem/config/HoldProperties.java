@@ -0,0 +1,24 @@
+package com.org.modernbank.transfersystem.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings of transfer holds read from application.properties
+ * (prefix "holds")
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "holds")
+public class HoldProperties {
+
+    private long defaultExpirySeconds = 604_800;
+
+    private long maxExpirySeconds = 2_592_000;
+}
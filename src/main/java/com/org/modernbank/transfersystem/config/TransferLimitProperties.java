@@ -0,0 +1,51 @@
+package com.org.modernbank.transfersystem.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-account transfer limits read from application.properties
+ * (prefix "transfer.limits"). Account specific values go under
+ * transfer.limits.overrides[accountId].*
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "transfer.limits")
+public class TransferLimitProperties {
+
+    private boolean enabled = true;
+
+    // maximum number of transfers an account can send per second, 0 disables the check
+    private double maxTransfersPerSecond = 100;
+
+    // maximum amount an account can send inside the rolling window, 0 disables the check
+    private double maxAmountPerWindow = 1_000_000;
+
+    private long windowSeconds = 86_400;
+
+    // slots the window is counted in, the window slides one slot at a time
+    // and each slot costs 8 bytes per account
+    private int windowSlots = 24;
+
+    private Map<String, Limit> overrides = new HashMap<>();
+
+    /**
+     * Account level override, unset values fall back to the defaults
+     */
+    @Getter
+    @Setter
+    public static class Limit {
+
+        private Double maxTransfersPerSecond;
+        private Double maxAmountPerWindow;
+    }
+}
@@ -0,0 +1,36 @@
+package com.org.modernbank.transfersystem.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings of the startup warm-up read from application.properties
+ * (prefix "startup.warmup")
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "startup.warmup")
+public class WarmupProperties {
+
+    private boolean enabled = true;
+
+    // rounds of transfer, balance and statement requests
+    private int iterations = 1_000;
+
+    private int threads = 4;
+
+    // synthetic accounts the requests go to
+    private int accounts = 16;
+
+    // the warm-up stops early rather than hold back readiness for longer
+    private long timeoutSeconds = 60;
+
+    // stops the application once warmed up, for the class data sharing training run
+    private boolean exitAfterWarmup;
+}
@@ -11,4 +11,20 @@ public class EndPointConstants {
     public static final String MINI_STATEMENT = "/{accountId}/statements/mini";
 
     public static final String CREATE_ACCOUNT = "/createAccount";
+
+    public static final String IMPORT_ACCOUNTS = "/import";
+
+    public static final String RECONCILIATION = "/reconciliation";
+
+    public static final String EVENTS = "/events";
+
+    public static final String HOLDS = "/holds";
+
+    public static final String CAPTURE_HOLD = "/holds/{holdId}/capture";
+
+    public static final String VOID_HOLD = "/holds/{holdId}/void";
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    public static final String LAST_EVENT_ID = "Last-Event-ID";
 }
\ No newline at end of file
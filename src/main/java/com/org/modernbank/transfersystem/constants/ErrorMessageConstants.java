@@ -8,4 +8,17 @@ public class ErrorMessageConstants {
     public static final String UNABLE_TO_GET_THE_STATEMENT_DUE_TO_INVALID_ACCOUNT_ID = "Unable to get the statement due to invalid account id";
     public static final String INSUFFICIENT_ACCOUNT_BALANCE_IN_SENDER_ACCOUNT = "Insufficient Account Balance in sender account";
     public static final String ACCOUNT_ALREADY_EXISTS_IN_THE_SYSTEM = "Account already exists in the system";
+    public static final String TRANSFER_RATE_LIMIT_EXCEEDED = "Transfer rate limit exceeded for sender account";
+    public static final String TRANSFER_AMOUNT_LIMIT_EXCEEDED = "Transfer amount limit exceeded for sender account";
+    public static final String INVALID_TRANSFER_AMOUNT = "Transfer amount must be greater than zero";
+    public static final String TOO_MANY_EVENT_SUBSCRIBERS = "Too many event subscribers";
+    public static final String INVALID_ACCOUNT_RECORD = "Invalid account record";
+    public static final String INVALID_ACCOUNT_ID = "Account id is missing";
+    public static final String INVALID_BALANCE_AMOUNT = "Invalid balance amount";
+    public static final String INVALID_CURRENCY_CODE = "Invalid currency code";
+    public static final String INVALID_HOLD_AMOUNT = "Hold amount must be greater than zero";
+    public static final String INVALID_HOLD_EXPIRY = "Invalid hold expiry";
+    public static final String HOLD_NOT_FOUND = "No active hold found for the hold id";
+    public static final String HOLD_EXPIRED = "Hold has expired";
+    public static final String INVALID_CAPTURE_AMOUNT = "Capture amount must be greater than zero and not more than the hold amount";
 }
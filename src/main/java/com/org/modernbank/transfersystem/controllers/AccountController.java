@@ -1,15 +1,24 @@
 package com.org.modernbank.transfersystem.controllers;
 
+import com.org.modernbank.transfersystem.config.EventProperties;
 import com.org.modernbank.transfersystem.domain.*;
+import com.org.modernbank.transfersystem.events.EventBus;
+import com.org.modernbank.transfersystem.events.EventSubscription;
+import com.org.modernbank.transfersystem.events.SseEventSink;
+import com.org.modernbank.transfersystem.services.AccountImportService;
 import com.org.modernbank.transfersystem.services.AccountService;
+import com.org.modernbank.transfersystem.services.HoldService;
+import com.org.modernbank.transfersystem.services.ReconciliationService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import javax.validation.Valid;
-import java.util.ArrayList;
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
 
 import static com.org.modernbank.transfersystem.constants.EndPointConstants.*;
 
@@ -24,12 +33,24 @@ import static com.org.modernbank.transfersystem.constants.EndPointConstants.*;
 @RestController
 public class AccountController {
 
-    // Assignment Guideline : Use in-memory data-structure to store all the data
-    List<Account> allAccounts = new ArrayList<>();
-
     @Autowired
     private AccountService accountService;
 
+    @Autowired
+    private AccountImportService accountImportService;
+
+    @Autowired
+    private ReconciliationService reconciliationService;
+
+    @Autowired
+    private HoldService holdService;
+
+    @Autowired
+    private EventBus eventBus;
+
+    @Autowired
+    private EventProperties eventProperties;
+
     /**
      * Service to get the account balance
      * @param accountId account id for balance
@@ -37,7 +58,7 @@ public class AccountController {
      */
     @GetMapping(BALANCE)
     public ResponseEntity<BalanceResponse> getBalance(@PathVariable String accountId){
-        BalanceResponse balance = accountService.getBalance(accountId, allAccounts);
+        BalanceResponse balance = accountService.getBalance(accountId);
         return ResponseEntity.ok(balance);
     }
 
@@ -56,10 +77,49 @@ public class AccountController {
         String currencyCode = transferRequest.getCurrencyCode();
 
         TransferResponse transferResponse = accountService.transferAmount(fromAccountId,
-                toAccountId, amount, currencyCode, allAccounts);
+                toAccountId, amount, currencyCode);
         return ResponseEntity.ok(transferResponse);
     }
 
+    /**
+     * Service to reserve funds on the sender account for a later capture
+     * @param holdRequest hold request
+     * @return authorized hold
+     */
+    @PostMapping(value = HOLDS, consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<HoldResponse> authorizeHold(@RequestBody HoldRequest holdRequest){
+        HoldResponse holdResponse = holdService.authorize(holdRequest.getFromAccountId(),
+                holdRequest.getToAccountId(), holdRequest.getAmount(), holdRequest.getCurrencyCode(),
+                holdRequest.getExpiresInSeconds());
+        return ResponseEntity.ok(holdResponse);
+    }
+
+    /**
+     * Service to capture a hold in full or in part
+     * @param holdId hold id
+     * @param captureRequest optional capture amount
+     * @return captured hold and its transfer
+     */
+    @PostMapping(value = CAPTURE_HOLD, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<HoldResponse> captureHold(@PathVariable long holdId,
+                                                    @RequestBody(required = false) CaptureRequest captureRequest){
+        Double amount = captureRequest != null ? captureRequest.getAmount() : null;
+        HoldResponse holdResponse = holdService.capture(holdId, amount);
+        return ResponseEntity.ok(holdResponse);
+    }
+
+    /**
+     * Service to void a hold
+     * @param holdId hold id
+     * @return voided hold
+     */
+    @PostMapping(value = VOID_HOLD, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<HoldResponse> voidHold(@PathVariable long holdId){
+        HoldResponse holdResponse = holdService.voidHold(holdId);
+        return ResponseEntity.ok(holdResponse);
+    }
+
     /**
      * Retrieves the mini statement for the account
      * @param accountId account id for mini statement
@@ -67,7 +127,7 @@ public class AccountController {
      */
     @GetMapping(MINI_STATEMENT)
     public ResponseEntity<TransactionResponse> getMiniStatement(@PathVariable String accountId){
-        TransactionResponse transactionResponse = accountService.getMiniStatement(accountId, allAccounts);
+        TransactionResponse transactionResponse = accountService.getMiniStatement(accountId);
         return ResponseEntity.ok(transactionResponse);
     }
 
@@ -79,8 +139,55 @@ public class AccountController {
     @PostMapping(value = CREATE_ACCOUNT, consumes = MediaType.APPLICATION_JSON_VALUE,
             produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<AccountResponse> createAccount(@Valid @RequestBody Account account) {
-        AccountResponse accountResponse = accountService.createAccount(account, allAccounts);
+        AccountResponse accountResponse = accountService.createAccount(account);
         return ResponseEntity.ok(accountResponse);
     }
 
+    /**
+     * Service to import accounts in bulk from a CSV or NDJSON upload
+     * @param contentType content type of the upload
+     * @param accounts accounts, one per line
+     * @return import summary
+     */
+    @PostMapping(value = IMPORT_ACCOUNTS, consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ImportResponse> importAccounts(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                         InputStream accounts) throws IOException {
+        AccountImportService.Format format = MediaType.parseMediaType(contentType)
+                .isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                ? AccountImportService.Format.NDJSON : AccountImportService.Format.CSV;
+        ImportResponse importResponse = accountImportService.importAccounts(accounts, format);
+        return ResponseEntity.ok(importResponse);
+    }
+
+    /**
+     * Service to reconcile all account balances against their transactions,
+     * a request made while a reconciliation is running gets that run's report
+     * @return reconciliation report
+     */
+    @PostMapping(RECONCILIATION)
+    public ResponseEntity<ReconciliationReport> reconcile() {
+        ReconciliationReport report = reconciliationService.reconcile();
+        return ResponseEntity.ok(report);
+    }
+
+    /**
+     * Streams committed transfers and new accounts as Server-Sent Events
+     * @param lastEventId id of the last event a reconnecting client received
+     * @return event stream
+     */
+    @GetMapping(value = EVENTS, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(@RequestHeader(value = LAST_EVENT_ID, required = false) Long lastEventId) {
+        // streams time out so ones whose client vanished are reclaimed, clients reconnect
+        SseEmitter emitter = new SseEmitter(eventProperties.getSseTimeoutMillis());
+        SseEventSink sink = new SseEventSink(emitter);
+        EventSubscription subscription = lastEventId == null
+                ? eventBus.subscribe("sse", sink)
+                : eventBus.subscribe("sse", sink, lastEventId + 1);
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(e -> subscription.close());
+        return emitter;
+    }
+
 }
@@ -1,5 +1,8 @@
 package com.org.modernbank.transfersystem.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -14,10 +17,54 @@ import java.util.List;
  */
 @Getter
 @Setter
+@JsonIgnoreProperties(value = "transactions", allowGetters = true)
 public class Account {
 
     private String accountId;
     private double balanceAmount;
     private String currencyCode;
-    private List<Transaction> transactions;
+
+    // guarded by the account lock
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    private final TransactionHistory history = new TransactionHistory();
+
+    // balance the account was created with, the starting point for reconciliation
+    @JsonIgnore
+    private double openingBalance;
+
+    // funds reserved by authorized holds, in minor units, guarded by the account lock
+    @JsonIgnore
+    private long heldMinorUnits;
+
+    // access tracking for evicting dormant histories, guarded by the account lock
+    @JsonIgnore
+    private boolean referenced;
+    @JsonIgnore
+    private long lastAccessMillis;
+
+    // set under the account lock once the account has left the store, requests that
+    // looked it up before then must not post to it
+    @JsonIgnore
+    private boolean removed;
+
+    /**
+     * Records an access to the account, must be called holding the account lock
+     * @param nowMillis current time in epoch milliseconds
+     */
+    public void touch(long nowMillis) {
+        referenced = true;
+        lastAccessMillis = nowMillis;
+    }
+
+    /**
+     * Resident transactions only, an evicted history reads as empty here.
+     * Responses serialize an AccountStore#snapshot, which holds every transaction.
+     * @return all resident transactions of the account, oldest first
+     */
+    public List<Transaction> getTransactions() {
+        synchronized (this) {
+            return history.getTransactions();
+        }
+    }
 }
@@ -0,0 +1,56 @@
+package com.org.modernbank.transfersystem.domain;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Change event published for a committed transfer or a new account
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Getter
+@Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AccountEvent {
+
+    public static final String TRANSFER_COMMITTED = "TRANSFER_COMMITTED";
+    public static final String ACCOUNT_CREATED = "ACCOUNT_CREATED";
+
+    // position of the event in the event stream
+    private long eventSequence;
+    private String type;
+    // epoch milliseconds
+    private long timestamp;
+
+    // set for TRANSFER_COMMITTED
+    private long transferId;
+    private String fromAccountId;
+    private String toAccountId;
+    private double amount;
+    private String currency;
+
+    // set for ACCOUNT_CREATED
+    private String accountId;
+    private String currencyCode;
+    private double balanceAmount;
+
+    /**
+     * Copies all fields of another event into this one
+     * @param other event to copy
+     */
+    public void copyFrom(AccountEvent other) {
+        eventSequence = other.eventSequence;
+        type = other.type;
+        timestamp = other.timestamp;
+        transferId = other.transferId;
+        fromAccountId = other.fromAccountId;
+        toAccountId = other.toAccountId;
+        amount = other.amount;
+        currency = other.currency;
+        accountId = other.accountId;
+        currencyCode = other.currencyCode;
+        balanceAmount = other.balanceAmount;
+    }
+}
@@ -17,10 +17,13 @@ public class BalanceResponse {
     private String accountId;
     private double balance;
     private String currency;
+    // balance less the funds on hold
+    private double availableBalance;
 
     public BalanceResponse(String accountId, double balance, String currency) {
         this.accountId = accountId;
         this.balance = balance;
         this.currency = currency;
+        this.availableBalance = balance;
     }
 }
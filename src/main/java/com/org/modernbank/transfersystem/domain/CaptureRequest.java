@@ -0,0 +1,18 @@
+package com.org.modernbank.transfersystem.domain;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Request to capture a hold
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Getter
+@Setter
+public class CaptureRequest {
+
+    // optional, the full hold amount when missing
+    private Double amount;
+}
@@ -0,0 +1,36 @@
+package com.org.modernbank.transfersystem.domain;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Date;
+
+/**
+ * Funds reserved on the sender account for a later capture. Status and
+ * captured amount change under the lock of the sender account.
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Getter
+@Setter
+public class Hold {
+
+    public enum Status {
+        AUTHORIZED, CAPTURED, VOIDED, EXPIRED
+    }
+
+    private long holdId;
+    private String fromAccountId;
+    private String toAccountId;
+    private double amount;
+    private String currency;
+    private Date expiresAt;
+    private Status status;
+    private double capturedAmount;
+
+    // when the hold's transfer limit quota was reserved, for handing back what is not captured
+    @JsonIgnore
+    private long limitReservedAt;
+}
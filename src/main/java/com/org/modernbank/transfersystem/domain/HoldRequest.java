@@ -0,0 +1,22 @@
+package com.org.modernbank.transfersystem.domain;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Request to authorize a hold
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Getter
+@Setter
+public class HoldRequest {
+
+    private String fromAccountId;
+    private String toAccountId;
+    private double amount;
+    private String currencyCode;
+    // optional, holds.default-expiry-seconds when missing
+    private Long expiresInSeconds;
+}
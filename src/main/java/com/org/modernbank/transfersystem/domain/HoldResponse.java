@@ -0,0 +1,20 @@
+package com.org.modernbank.transfersystem.domain;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Response entity for the hold services
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Getter
+@Setter
+public class HoldResponse {
+
+    private boolean status;
+    private Hold hold;
+    // set when the hold was captured
+    private TransferRecord transfer;
+}
@@ -0,0 +1,26 @@
+package com.org.modernbank.transfersystem.domain;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * A record rejected by the bulk account import
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Getter
+@Setter
+public class ImportError {
+
+    private long lineNumber;
+    private String reason;
+
+    public ImportError() {
+    }
+
+    public ImportError(long lineNumber, String reason) {
+        this.lineNumber = lineNumber;
+        this.reason = reason;
+    }
+}
@@ -0,0 +1,24 @@
+package com.org.modernbank.transfersystem.domain;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response entity class for bulk account import
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Getter
+@Setter
+public class ImportResponse {
+
+    private boolean status;
+    private long importedCount;
+    private long rejectedCount;
+    // only the first rejected records are reported back
+    private List<ImportError> errors = new ArrayList<>();
+}
@@ -0,0 +1,75 @@
+package com.org.modernbank.transfersystem.domain;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result of a reconciliation run over all accounts
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Getter
+@Setter
+public class ReconciliationReport {
+
+    // transfers up to this sequence number were matched across accounts
+    private long cutoffSequence;
+    private long durationMillis;
+    private long accountsScanned;
+    private long transactionsScanned;
+    private List<CurrencyTotal> currencyTotals = new ArrayList<>();
+    private long driftedAccountCount;
+    // only the first drifted accounts and orphaned legs are listed
+    private List<AccountDrift> driftedAccounts = new ArrayList<>();
+    private long orphanedLegCount;
+    private List<OrphanedLeg> orphanedLegs = new ArrayList<>();
+
+    /**
+     * Balance totals of all accounts in one currency
+     */
+    @Getter
+    @Setter
+    public static class CurrencyTotal {
+
+        private String currency;
+        private long accountCount;
+        // sum of account balances
+        private double totalBalance;
+        // sum of opening balances plus credits minus debits
+        private double ledgerBalance;
+        private double drift;
+    }
+
+    /**
+     * An account whose balance does not match its transaction history
+     */
+    @Getter
+    @Setter
+    public static class AccountDrift {
+
+        private String accountId;
+        private String currency;
+        private double balance;
+        private double ledgerBalance;
+        private double drift;
+    }
+
+    /**
+     * Debit legs between two accounts without matching credit legs, or the reverse
+     */
+    @Getter
+    @Setter
+    public static class OrphanedLeg {
+
+        private String debitAccountId;
+        private String creditAccountId;
+        private long debitCount;
+        private long creditCount;
+        private double debitAmount;
+        private double creditAmount;
+    }
+}
@@ -15,6 +15,8 @@ import java.util.Date;
 @Setter
 public class Transaction {
 
+    // sequence number of the transfer, shared by its DEBIT and CREDIT legs
+    private long transferId;
     private String accountId;
     private double amount;
     private String currency;
@@ -0,0 +1,296 @@
+package com.org.modernbank.transfersystem.domain;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Transaction history of an account, stored as parallel primitive columns
+ * rather than one object per transaction. Appending a transaction writes
+ * primitives into arrays that only grow, by doubling, when full.
+ * {@link Transaction} objects are built on demand when the history is read.
+ *
+ * A dormant history can be released to the cold tier: its columns are
+ * dropped and only the location of its serialized copy is kept, until it is
+ * restored from that copy.
+ *
+ * Not thread safe, guarded by the lock of the owning account.
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+public class TransactionHistory {
+
+    private static final int INITIAL_CAPACITY = 8;
+    private static final String DEBIT = "DEBIT";
+    private static final String CREDIT = "CREDIT";
+    // heap retained per transaction: two longs, a double, two references and a boolean
+    private static final int BYTES_PER_TRANSACTION = 8 + 8 + 8 + 4 + 4 + 1;
+    private static final int ENCODED_TRANSACTION_BYTES = 8 + 4 + 8 + 4 + 1 + 8;
+    private static final long NOT_RELEASED = -1;
+
+    // shared by all accounts without transactions
+    private static final long[] NO_LONGS = {};
+    private static final String[] NO_STRINGS = {};
+    private static final double[] NO_DOUBLES = {};
+    private static final boolean[] NO_BOOLEANS = {};
+
+    private long[] transferIds = NO_LONGS;
+    private String[] counterparties = NO_STRINGS;
+    private double[] amounts = NO_DOUBLES;
+    private String[] currencies = NO_STRINGS;
+    private boolean[] debits = NO_BOOLEANS;
+    private long[] timestamps = NO_LONGS;
+    private int size;
+
+    // location of the serialized copy while the columns are released
+    private long coldLocation = NOT_RELEASED;
+    private int coldLength;
+
+    /**
+     * Appends one leg of a transfer
+     * @param transferId sequence number of the transfer
+     * @param counterparty account id of the other side of the transfer
+     * @param amount amount of the transfer
+     * @param currency currency of the transfer
+     * @param debit true for the DEBIT leg
+     * @param timestamp transfer time in epoch milliseconds
+     * @return heap bytes the history grew by, 0 unless the columns had to grow
+     */
+    public long append(long transferId, String counterparty, double amount, String currency, boolean debit,
+                       long timestamp) {
+        long grown = 0;
+        if (size == transferIds.length) {
+            long before = footprint();
+            grow();
+            grown = footprint() - before;
+        }
+        transferIds[size] = transferId;
+        counterparties[size] = counterparty;
+        amounts[size] = amount;
+        currencies[size] = currency;
+        debits[size] = debit;
+        timestamps[size] = timestamp;
+        size++;
+        return grown;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getTransferId(int index) {
+        return transferIds[index];
+    }
+
+    public String getCounterparty(int index) {
+        return counterparties[index];
+    }
+
+    public double getAmount(int index) {
+        return amounts[index];
+    }
+
+    public String getCurrency(int index) {
+        return currencies[index];
+    }
+
+    public boolean isDebit(int index) {
+        return debits[index];
+    }
+
+    public long getTimestamp(int index) {
+        return timestamps[index];
+    }
+
+    /**
+     * @return estimated heap bytes retained by the columns
+     */
+    public long footprint() {
+        return (long) transferIds.length * BYTES_PER_TRANSACTION;
+    }
+
+    /**
+     * @return false while the columns are released to the cold tier
+     */
+    public boolean isResident() {
+        return coldLocation == NOT_RELEASED;
+    }
+
+    public long getColdLocation() {
+        return coldLocation;
+    }
+
+    public int getColdLength() {
+        return coldLength;
+    }
+
+    /**
+     * Encodes the transactions in a compact binary form. Account ids and
+     * currencies are written once in a table and referenced by index.
+     * @return encoded transactions, ready to be read
+     */
+    public ByteBuffer encode() {
+        Map<String, Integer> table = new HashMap<>();
+        List<byte[]> strings = new ArrayList<>();
+        int[] references = new int[2 * size];
+        int stringBytes = 0;
+        for (int i = 0; i < 2 * size; i++) {
+            String string = (i & 1) == 0 ? counterparties[i >> 1] : currencies[i >> 1];
+            Integer index = table.get(string);
+            if (index == null) {
+                index = strings.size();
+                table.put(string, index);
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                strings.add(bytes);
+                stringBytes += 4 + bytes.length;
+            }
+            references[i] = index;
+        }
+
+        ByteBuffer record = ByteBuffer.allocate(4 + stringBytes + 4 + size * ENCODED_TRANSACTION_BYTES);
+        record.putInt(strings.size());
+        for (byte[] bytes : strings) {
+            record.putInt(bytes.length).put(bytes);
+        }
+        record.putInt(size);
+        for (int i = 0; i < size; i++) {
+            record.putLong(transferIds[i])
+                    .putInt(references[2 * i])
+                    .putDouble(amounts[i])
+                    .putInt(references[2 * i + 1])
+                    .put(debits[i] ? (byte) 1 : 0)
+                    .putLong(timestamps[i]);
+        }
+        record.flip();
+        return record;
+    }
+
+    /**
+     * Replaces the transactions with ones encoded by {@link #encode()}.
+     * The columns are reused when they are large enough.
+     * @param record encoded transactions
+     * @param canonical maps a decoded string to a shared instance of it
+     */
+    public void decode(ByteBuffer record, UnaryOperator<String> canonical) {
+        String[] strings = new String[record.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            int length = record.getInt();
+            strings[i] = canonical.apply(new String(record.array(), record.arrayOffset() + record.position(), length,
+                    StandardCharsets.UTF_8));
+            record.position(record.position() + length);
+        }
+        int count = record.getInt();
+        if (transferIds.length < count) {
+            transferIds = new long[count];
+            counterparties = new String[count];
+            amounts = new double[count];
+            currencies = new String[count];
+            debits = new boolean[count];
+            timestamps = new long[count];
+        } else {
+            clear();
+        }
+        for (int i = 0; i < count; i++) {
+            transferIds[i] = record.getLong();
+            counterparties[i] = strings[record.getInt()];
+            amounts[i] = record.getDouble();
+            currencies[i] = strings[record.getInt()];
+            debits[i] = record.get() != 0;
+            timestamps[i] = record.getLong();
+        }
+        size = count;
+        coldLocation = NOT_RELEASED;
+        coldLength = 0;
+    }
+
+    /**
+     * Drops the columns once their serialized copy is stored in the cold tier
+     * @param location location of the copy
+     * @param length length of the copy in bytes
+     */
+    public void release(long location, int length) {
+        transferIds = NO_LONGS;
+        counterparties = NO_STRINGS;
+        amounts = NO_DOUBLES;
+        currencies = NO_STRINGS;
+        debits = NO_BOOLEANS;
+        timestamps = NO_LONGS;
+        size = 0;
+        coldLocation = location;
+        coldLength = length;
+    }
+
+    /**
+     * Points a released history at a new location of the same copy
+     * @param location new location of the copy
+     */
+    public void relocate(long location) {
+        coldLocation = location;
+    }
+
+    /**
+     * Builds the transaction at the given position
+     * @param index position in the history, 0 is the oldest
+     * @return transaction
+     */
+    public Transaction getTransaction(int index) {
+        Transaction transaction = new Transaction();
+        transaction.setTransferId(transferIds[index]);
+        transaction.setAccountId(counterparties[index]);
+        transaction.setAmount(amounts[index]);
+        transaction.setCurrency(currencies[index]);
+        transaction.setType(debits[index] ? DEBIT : CREDIT);
+        transaction.setTransactionDate(new Date(timestamps[index]));
+        return transaction;
+    }
+
+    /**
+     * @return all transactions, oldest first
+     */
+    public List<Transaction> getTransactions() {
+        List<Transaction> transactions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            transactions.add(getTransaction(i));
+        }
+        return transactions;
+    }
+
+    /**
+     * @param count maximum number of transactions
+     * @return the latest transactions, newest first
+     */
+    public List<Transaction> getLatestTransactions(int count) {
+        int limit = Math.min(count, size);
+        List<Transaction> transactions = new ArrayList<>(limit);
+        for (int i = size - 1; i >= size - limit; i--) {
+            transactions.add(getTransaction(i));
+        }
+        return transactions;
+    }
+
+    /**
+     * Forgets all transactions but keeps the allocated capacity
+     */
+    public void clear() {
+        Arrays.fill(counterparties, 0, size, null);
+        Arrays.fill(currencies, 0, size, null);
+        size = 0;
+    }
+
+    private void grow() {
+        int capacity = Math.max(INITIAL_CAPACITY, transferIds.length << 1);
+        transferIds = Arrays.copyOf(transferIds, capacity);
+        counterparties = Arrays.copyOf(counterparties, capacity);
+        amounts = Arrays.copyOf(amounts, capacity);
+        currencies = Arrays.copyOf(currencies, capacity);
+        debits = Arrays.copyOf(debits, capacity);
+        timestamps = Arrays.copyOf(timestamps, capacity);
+    }
+}
@@ -0,0 +1,43 @@
+package com.org.modernbank.transfersystem.domain;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Reusable request and result of an internal transfer. A caller keeps one
+ * per thread and resets it between transfers, so the transfer path does not
+ * allocate.
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Getter
+@Setter
+public class TransferCommand {
+
+    // request
+    private String fromAccountId;
+    private String toAccountId;
+    private double amount;
+    private String currencyCode;
+
+    // result
+    private long transferId;
+    private long timestamp;
+    private Account fromAccount;
+    private Account toAccount;
+
+    /**
+     * Clears the command for the next transfer
+     */
+    public void reset() {
+        fromAccountId = null;
+        toAccountId = null;
+        amount = 0;
+        currencyCode = null;
+        transferId = 0;
+        timestamp = 0;
+        fromAccount = null;
+        toAccount = null;
+    }
+}
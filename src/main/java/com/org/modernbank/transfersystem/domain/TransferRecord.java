@@ -0,0 +1,25 @@
+package com.org.modernbank.transfersystem.domain;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Date;
+
+/**
+ * Ledger entry of a single transfer. Its sequence number is the transfer id
+ * referenced by both the DEBIT and the CREDIT leg.
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Getter
+@Setter
+public class TransferRecord {
+
+    private long sequence;
+    private String fromAccountId;
+    private String toAccountId;
+    private double amount;
+    private String currency;
+    private Date transactionDate;
+}
@@ -18,5 +18,6 @@ public class TransferResponse {
 
     private boolean status;
     private List<Account> updatedAccountDetails;
+    private TransferRecord transfer;
 
 }
@@ -0,0 +1,264 @@
+package com.org.modernbank.transfersystem.events;
+
+import com.org.modernbank.transfersystem.config.EventProperties;
+import com.org.modernbank.transfersystem.domain.AccountEvent;
+import com.org.modernbank.transfersystem.exceptions.LimitExceededException;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.StampedLock;
+
+import static com.org.modernbank.transfersystem.constants.ErrorMessageConstants.TOO_MANY_EVENT_SUBSCRIBERS;
+
+/**
+ * In-process bus for account change events.
+ *
+ * Events are written into a fixed ring of pre-allocated slots: publishing
+ * claims the next stream sequence and fills in its slot, without touching any
+ * subscriber and without allocating, so the cost does not grow with the
+ * number of subscribers and a slow subscriber can never block a transfer.
+ * Each slot is guarded by a {@link StampedLock} used as a seqlock: the
+ * publisher write-locks only its own slot, and subscribers copy a slot out
+ * under an optimistic read and retry if it changed underneath them.
+ * Subscribers never take the lock, so a publisher never waits on them; it
+ * only waits when another publisher a full ring away is writing the same
+ * slot, which takes the whole ring to wrap around during a single publish.
+ * Every subscription reads the ring with its own cursor on a thread of a
+ * shared pool, and the number of open subscriptions is capped, so
+ * subscribers cannot run the process out of threads. A subscription that
+ * falls a full ring behind is told how many events it missed and decides
+ * whether to carry on or close.
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Component
+public class EventBus {
+
+    private final Slot[] ring;
+    private final int mask;
+    private final int maxBatchSize;
+    private final AtomicLong nextSequence = new AtomicLong();
+    private final List<EventSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    // a permit is held from subscribing until the subscription's thread is back in the pool
+    private final Semaphore subscriberPermits;
+    private final ExecutorService subscriberThreads;
+
+    public EventBus(EventProperties properties) {
+        int capacity = Integer.highestOneBit(Math.max(2, properties.getBufferSize() - 1)) << 1;
+        this.ring = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            ring[i] = new Slot();
+        }
+        this.mask = capacity - 1;
+        this.maxBatchSize = properties.getMaxBatchSize();
+        this.subscriberPermits = new Semaphore(properties.getMaxSubscribers());
+        AtomicInteger threadCount = new AtomicInteger();
+        this.subscriberThreads = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "event-subscriber-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Publishes a committed transfer. Never waits on subscribers, only on a
+     * publisher a full ring away that is writing the same slot
+     * @param transferId sequence number of the transfer
+     * @param fromAccountId debit account id
+     * @param toAccountId credit account id
+     * @param amount amount transferred
+     * @param currency currency of the transfer
+     * @param timestamp transfer time in epoch milliseconds
+     */
+    public void publishTransfer(long transferId, String fromAccountId, String toAccountId, double amount,
+                                String currency, long timestamp) {
+        long sequence = nextSequence.getAndIncrement();
+        Slot slot = ring[(int) sequence & mask];
+        long stamp = slot.lock.writeLock();
+        try {
+            if (slot.sequence > sequence) {
+                // a publisher a full ring ahead already took the slot, this event is overwritten anyway
+                return;
+            }
+            AccountEvent event = slot.event;
+            event.setType(AccountEvent.TRANSFER_COMMITTED);
+            event.setTimestamp(timestamp);
+            event.setTransferId(transferId);
+            event.setFromAccountId(fromAccountId);
+            event.setToAccountId(toAccountId);
+            event.setAmount(amount);
+            event.setCurrency(currency);
+            event.setAccountId(null);
+            event.setCurrencyCode(null);
+            event.setBalanceAmount(0);
+            publish(slot, sequence);
+        } finally {
+            slot.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Publishes a new account. Never waits on subscribers, only on a
+     * publisher a full ring away that is writing the same slot
+     * @param accountId account id
+     * @param currencyCode currency of the account
+     * @param balanceAmount opening balance
+     */
+    public void publishAccountCreated(String accountId, String currencyCode, double balanceAmount) {
+        long sequence = nextSequence.getAndIncrement();
+        Slot slot = ring[(int) sequence & mask];
+        long stamp = slot.lock.writeLock();
+        try {
+            if (slot.sequence > sequence) {
+                return;
+            }
+            AccountEvent event = slot.event;
+            event.setType(AccountEvent.ACCOUNT_CREATED);
+            event.setTimestamp(System.currentTimeMillis());
+            event.setTransferId(0);
+            event.setFromAccountId(null);
+            event.setToAccountId(null);
+            event.setAmount(0);
+            event.setCurrency(null);
+            event.setAccountId(accountId);
+            event.setCurrencyCode(currencyCode);
+            event.setBalanceAmount(balanceAmount);
+            publish(slot, sequence);
+        } finally {
+            slot.lock.unlockWrite(stamp);
+        }
+    }
+
+    private static void publish(Slot slot, long sequence) {
+        slot.event.setEventSequence(sequence);
+        slot.sequence = sequence;
+    }
+
+    /**
+     * Subscribes a sink to events published from now on
+     * @param name name of the subscription, used for its thread
+     * @param sink consumer of the events
+     * @return the subscription, close it to unsubscribe
+     * @throws LimitExceededException when the maximum number of subscriptions is open
+     */
+    public EventSubscription subscribe(String name, EventSink sink) {
+        return subscribe(name, sink, nextSequence.get());
+    }
+
+    /**
+     * Subscribes a sink to events from the given sequence onwards. A sequence
+     * that is no longer retained is reported to the sink as an overflow, one
+     * not yet published starts the sink at the next event
+     * @param name name of the subscription, used for its thread
+     * @param sink consumer of the events
+     * @param fromSequence sequence of the first event to deliver
+     * @return the subscription, close it to unsubscribe
+     * @throws LimitExceededException when the maximum number of subscriptions is open
+     */
+    public EventSubscription subscribe(String name, EventSink sink, long fromSequence) {
+        if (!subscriberPermits.tryAcquire()) {
+            throw new LimitExceededException(TOO_MANY_EVENT_SUBSCRIBERS);
+        }
+        long cursor = Math.max(0, Math.min(fromSequence, nextSequence.get()));
+        EventSubscription subscription = new EventSubscription(this, sink, cursor, maxBatchSize);
+        subscriptions.add(subscription);
+        try {
+            subscriberThreads.execute(() -> {
+                Thread thread = Thread.currentThread();
+                String poolName = thread.getName();
+                thread.setName(poolName + "-" + name);
+                try {
+                    subscription.run();
+                } finally {
+                    thread.setName(poolName);
+                    subscriberPermits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            subscriberPermits.release();
+            subscription.close();
+            throw e;
+        }
+        return subscription;
+    }
+
+    /**
+     * @return number of open subscriptions
+     */
+    public int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    @PreDestroy
+    public void close() {
+        for (EventSubscription subscription : subscriptions) {
+            subscription.close();
+        }
+        subscriberThreads.shutdown();
+    }
+
+    /**
+     * Copies the events from the cursor onwards into the buffer
+     * @param cursor sequence of the next event to read
+     * @param buffer events to copy into
+     * @return number of events read, or -1 when the cursor was overwritten
+     */
+    int read(long cursor, AccountEvent[] buffer) {
+        int read = 0;
+        while (read < buffer.length) {
+            long expected = cursor + read;
+            Slot slot = ring[(int) expected & mask];
+            long stamp = slot.lock.tryOptimisticRead();
+            if (stamp == 0) {
+                // being written, either the expected event or one a full ring ahead
+                break;
+            }
+            long sequence = slot.sequence;
+            if (sequence == expected) {
+                buffer[read].copyFrom(slot.event);
+            }
+            if (!slot.lock.validate(stamp)) {
+                // written to while reading, read the slot again
+                continue;
+            }
+            if (sequence < expected) {
+                // not published yet
+                break;
+            }
+            if (sequence > expected) {
+                return read == 0 ? -1 : read;
+            }
+            read++;
+        }
+        return read;
+    }
+
+    /**
+     * @return oldest sequence still held by the ring
+     */
+    long oldestSequence() {
+        return Math.max(0, nextSequence.get() - mask);
+    }
+
+    void unsubscribe(EventSubscription subscription) {
+        subscriptions.remove(subscription);
+    }
+
+    /**
+     * One pre-allocated ring entry, only changed under its write lock
+     */
+    private static final class Slot {
+
+        private final StampedLock lock = new StampedLock();
+        private final AccountEvent event = new AccountEvent();
+        private long sequence = -1;
+    }
+}
@@ -0,0 +1,36 @@
+package com.org.modernbank.transfersystem.events;
+
+import com.org.modernbank.transfersystem.domain.AccountEvent;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Consumer of the account event stream. Called from the subscription's own
+ * thread, so a slow sink only ever holds up itself.
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+public interface EventSink {
+
+    /**
+     * Delivers the next batch of events, in stream order
+     * @param events events of the batch, reused after the call so copy any event that is kept
+     * @throws IOException to close the subscription
+     */
+    void onEvents(List<AccountEvent> events) throws IOException;
+
+    /**
+     * Called when the sink fell so far behind that events were overwritten
+     * @param missedEvents number of events the sink will never see
+     * @return true to carry on from the oldest retained event, false to close the subscription
+     */
+    boolean onOverflow(long missedEvents);
+
+    /**
+     * Called once when the subscription closes
+     */
+    default void onClose() {
+    }
+}
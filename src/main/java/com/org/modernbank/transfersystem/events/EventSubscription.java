@@ -0,0 +1,101 @@
+package com.org.modernbank.transfersystem.events;
+
+import com.org.modernbank.transfersystem.domain.AccountEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A subscriber's read position in the event bus and the task that moves it,
+ * run on one of the bus's subscriber threads. When the ring is empty the task
+ * backs off from 1ms up to 16ms, so publishers never have to wake it.
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+public class EventSubscription implements Runnable, Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventSubscription.class);
+
+    private static final long MIN_IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long MAX_IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(16);
+
+    private final EventBus eventBus;
+    private final EventSink sink;
+    private final int maxBatchSize;
+    private long cursor;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    EventSubscription(EventBus eventBus, EventSink sink, long cursor, int maxBatchSize) {
+        this.eventBus = eventBus;
+        this.sink = sink;
+        this.cursor = cursor;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public void run() {
+        // events are copied out of the ring into these and reused for every batch
+        AccountEvent[] buffer = new AccountEvent[maxBatchSize];
+        for (int i = 0; i < maxBatchSize; i++) {
+            buffer[i] = new AccountEvent();
+        }
+        List<AccountEvent> batch = new ArrayList<>(maxBatchSize);
+        long idleNanos = MIN_IDLE_NANOS;
+        try {
+            while (!closed.get()) {
+                int read = eventBus.read(cursor, buffer);
+                if (read < 0) {
+                    long oldest = eventBus.oldestSequence();
+                    if (!sink.onOverflow(oldest - cursor)) {
+                        return;
+                    }
+                    cursor = oldest;
+                    continue;
+                }
+                if (read == 0) {
+                    LockSupport.parkNanos(idleNanos);
+                    idleNanos = Math.min(idleNanos << 1, MAX_IDLE_NANOS);
+                    continue;
+                }
+                idleNanos = MIN_IDLE_NANOS;
+                for (int i = 0; i < read; i++) {
+                    batch.add(buffer[i]);
+                }
+                sink.onEvents(batch);
+                cursor += read;
+                batch.clear();
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Closing event subscription after delivery failure", e);
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Stops the subscription, the sink sees no more events
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        eventBus.unsubscribe(this);
+        sink.onClose();
+    }
+
+    /**
+     * @return true once the subscription is closed
+     */
+    public boolean isClosed() {
+        return closed.get();
+    }
+}
@@ -0,0 +1,81 @@
+package com.org.modernbank.transfersystem.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.org.modernbank.transfersystem.config.EventProperties;
+import com.org.modernbank.transfersystem.domain.AccountEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends every event to a local NDJSON file, one flush per batch
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Component
+@ConditionalOnProperty(prefix = "events.file-sink", name = "enabled", havingValue = "true")
+public class FileEventSink implements EventSink {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileEventSink.class);
+
+    private final EventBus eventBus;
+    private final EventProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private BufferedWriter writer;
+    private EventSubscription subscription;
+
+    public FileEventSink(EventBus eventBus, EventProperties properties, ObjectMapper objectMapper) {
+        this.eventBus = eventBus;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        writer = Files.newBufferedWriter(Paths.get(properties.getFileSink().getPath()), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        subscription = eventBus.subscribe("file", this);
+    }
+
+    @PreDestroy
+    public void stop() {
+        subscription.close();
+    }
+
+    @Override
+    public void onEvents(List<AccountEvent> events) throws IOException {
+        for (AccountEvent event : events) {
+            writer.write(objectMapper.writeValueAsString(event));
+            writer.newLine();
+        }
+        writer.flush();
+    }
+
+    @Override
+    public boolean onOverflow(long missedEvents) {
+        logger.warn("Event file sink fell behind and missed {} events", missedEvents);
+        return true;
+    }
+
+    @Override
+    public void onClose() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            logger.warn("Unable to close the event file", e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.org.modernbank.transfersystem.events;
+
+import com.org.modernbank.transfersystem.domain.AccountEvent;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Streams events to an HTTP client as Server-Sent Events. Every event
+ * carries its stream sequence as its id, so a reconnecting client resumes
+ * after the last event it received. A client that falls a full buffer behind,
+ * or resumes from an event no longer retained, is sent an OVERFLOW event with
+ * the number of events it missed and carries on from the oldest retained one.
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+public class SseEventSink implements EventSink {
+
+    private static final String OVERFLOW = "OVERFLOW";
+
+    private final SseEmitter emitter;
+
+    public SseEventSink(SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    @Override
+    public void onEvents(List<AccountEvent> events) throws IOException {
+        for (AccountEvent event : events) {
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(event.getEventSequence()))
+                    .name(event.getType())
+                    .data(event, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    @Override
+    public boolean onOverflow(long missedEvents) {
+        try {
+            emitter.send(SseEmitter.event().name(OVERFLOW).data(missedEvents));
+        } catch (IOException e) {
+            // the next send fails as well and closes the subscription
+        }
+        return true;
+    }
+
+    @Override
+    public void onClose() {
+        emitter.complete();
+    }
+}
@@ -0,0 +1,11 @@
+package com.org.modernbank.transfersystem.exceptions;
+
+/**
+ * Exception related to transfer rate and amount limits
+ */
+public class LimitExceededException extends RuntimeException{
+
+    public LimitExceededException(final String cause){
+        super(cause);
+    }
+}
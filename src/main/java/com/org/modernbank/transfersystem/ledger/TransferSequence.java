@@ -0,0 +1,52 @@
+package com.org.modernbank.transfersystem.ledger;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Allocates the global, strictly increasing 64-bit sequence numbers that
+ * identify transfers in the ledger.
+ *
+ * Ids come from a single atomic fetch-and-add, which never retries, so
+ * allocation is wait-free however many threads ask. The counter is padded
+ * onto its own cache line so it does not false-share with neighbouring
+ * objects. Per-thread id blocks were not used as they would break the global
+ * order the ledger relies on.
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Component
+public class TransferSequence extends TransferSequencePadding {
+
+    private static final AtomicLongFieldUpdater<TransferSequence> NEXT =
+            AtomicLongFieldUpdater.newUpdater(TransferSequence.class, "next");
+
+    private volatile long next = 1;
+
+    // padding after the counter
+    long p9, p10, p11, p12, p13, p14, p15;
+
+    /**
+     * @return next sequence number, the first one is 1
+     */
+    public long next() {
+        return NEXT.getAndIncrement(this);
+    }
+
+    /**
+     * @return highest sequence number handed out so far, 0 if none
+     */
+    public long current() {
+        return next - 1;
+    }
+}
+
+/**
+ * Padding before the counter, kept in a superclass so the JVM cannot reorder it
+ */
+abstract class TransferSequencePadding {
+
+    long p1, p2, p3, p4, p5, p6, p7;
+}
@@ -0,0 +1,126 @@
+package com.org.modernbank.transfersystem.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free rolling window sum.
+ *
+ * The window is split into a ring of slots. Each slot is one long holding the
+ * slot's epoch tag in the high bits and its running sum in the low bits, so a
+ * stale slot is recycled with the same CAS that adds to it. A value is added
+ * optimistically and taken back out if the window total then exceeds the
+ * limit, which means concurrent callers can be refused conservatively but the
+ * admitted total never goes over the limit.
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+public final class SlidingWindowCounter {
+
+    private static final int SUM_BITS = 43;
+    private static final long SUM_MASK = (1L << SUM_BITS) - 1;
+    // 21 bits of epoch: a tag only repeats after ~2M slots, far longer than any window
+    private static final long EPOCH_MASK = (1L << (64 - SUM_BITS)) - 1;
+
+    private final long limit;
+    private final long slotNanos;
+    private final int slots;
+    private final AtomicLongArray cells;
+
+    /**
+     * @param limit maximum sum allowed inside the window
+     * @param windowNanos length of the rolling window
+     * @param slots number of slots the window is split into
+     */
+    public SlidingWindowCounter(long limit, long windowNanos, int slots) {
+        if (limit < 0 || limit > SUM_MASK || slots < 1 || windowNanos < slots) {
+            throw new IllegalArgumentException("Invalid sliding window configuration");
+        }
+        this.limit = limit;
+        this.slots = slots;
+        this.slotNanos = windowNanos / slots;
+        this.cells = new AtomicLongArray(slots);
+    }
+
+    /**
+     * Adds the value to the window if the window stays within its limit
+     * @param value value to add, must not be negative
+     * @param nowNanos current {@link System#nanoTime()} reading
+     * @return true when the value was added
+     */
+    public boolean tryAdd(long value, long nowNanos) {
+        if (value < 0 || value > limit) {
+            return false;
+        }
+        long epoch = Math.floorDiv(nowNanos, slotNanos);
+        int index = (int) Math.floorMod(epoch, (long) slots);
+        long tag = epoch & EPOCH_MASK;
+        for (;;) {
+            long cell = cells.get(index);
+            long sum = (cell >>> SUM_BITS) == tag ? cell & SUM_MASK : 0;
+            if (cells.compareAndSet(index, cell, (tag << SUM_BITS) | (sum + value))) {
+                break;
+            }
+        }
+        if (windowTotal(epoch) > limit) {
+            release(index, tag, value);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Sum of the window ending at the given time
+     * @param nowNanos current {@link System#nanoTime()} reading
+     * @return window total
+     */
+    public long total(long nowNanos) {
+        return windowTotal(Math.floorDiv(nowNanos, slotNanos));
+    }
+
+    /**
+     * Takes back a value added by {@link #tryAdd}. Nothing is taken back once
+     * the slot it went into has left the window.
+     * @param value value that was added
+     * @param addedAtNanos {@link System#nanoTime()} reading the value was added with
+     */
+    public void release(long value, long addedAtNanos) {
+        long epoch = Math.floorDiv(addedAtNanos, slotNanos);
+        release((int) Math.floorMod(epoch, (long) slots), epoch & EPOCH_MASK, value);
+    }
+
+    /**
+     * @param nowNanos current {@link System#nanoTime()} reading
+     * @return true when nothing is left in the window, the state of a new counter
+     */
+    public boolean isEmpty(long nowNanos) {
+        return total(nowNanos) == 0;
+    }
+
+    private long windowTotal(long epoch) {
+        long total = 0;
+        // walk the ring backwards from the current slot, one division for the whole scan
+        int index = (int) Math.floorMod(epoch, (long) slots);
+        for (int i = 0; i < slots; i++) {
+            long cell = cells.get(index);
+            if ((cell >>> SUM_BITS) == ((epoch - i) & EPOCH_MASK)) {
+                total += cell & SUM_MASK;
+            }
+            index = index == 0 ? slots - 1 : index - 1;
+        }
+        return total;
+    }
+
+    private void release(int index, long tag, long value) {
+        for (;;) {
+            long cell = cells.get(index);
+            if ((cell >>> SUM_BITS) != tag || (cell & SUM_MASK) < value) {
+                // slot already recycled, nothing left to take back
+                return;
+            }
+            if (cells.compareAndSet(index, cell, cell - value)) {
+                return;
+            }
+        }
+    }
+}
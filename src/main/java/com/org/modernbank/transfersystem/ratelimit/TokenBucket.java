@@ -0,0 +1,84 @@
+package com.org.modernbank.transfersystem.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Lock-free token bucket kept in a single long.
+ *
+ * The bucket is stored as its theoretical arrival time (GCRA): every permit
+ * pushes the arrival time forward by one emission interval, and a permit is
+ * refused once the arrival time runs further ahead of the clock than the
+ * burst allows. One CAS per permit, no background refill. The arrival
+ * time is a field of the bucket itself, so a bucket is a single small object.
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+public final class TokenBucket {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final AtomicLongFieldUpdater<TokenBucket> THEORETICAL_ARRIVAL_TIME =
+            AtomicLongFieldUpdater.newUpdater(TokenBucket.class, "theoreticalArrivalTime");
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private volatile long theoreticalArrivalTime;
+
+    /**
+     * @param permitsPerSecond sustained rate of the bucket
+     * @param burst number of permits that can be taken back to back
+     * @param nowNanos current {@link System#nanoTime()} reading
+     */
+    public TokenBucket(double permitsPerSecond, int burst, long nowNanos) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Token bucket needs a positive rate and burst");
+        }
+        this.emissionIntervalNanos = Math.max(1L, (long) (NANOS_PER_SECOND / permitsPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.theoreticalArrivalTime = nowNanos;
+    }
+
+    /**
+     * Takes one permit if the bucket has one
+     * @param nowNanos current {@link System#nanoTime()} reading
+     * @return true when the permit was granted
+     */
+    public boolean tryAcquire(long nowNanos) {
+        for (;;) {
+            long tat = theoreticalArrivalTime;
+            // nanoTime values may wrap, so only ever compare differences
+            long base = tat - nowNanos > 0 ? tat : nowNanos;
+            if (base - nowNanos > burstToleranceNanos) {
+                return false;
+            }
+            if (THEORETICAL_ARRIVAL_TIME.compareAndSet(this, tat, base + emissionIntervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Gives back a permit taken by {@link #tryAcquire}. Nothing is given back
+     * once the bucket has refilled on its own.
+     * @param nowNanos current {@link System#nanoTime()} reading
+     */
+    public void release(long nowNanos) {
+        for (;;) {
+            long tat = theoreticalArrivalTime;
+            if (tat - nowNanos <= 0) {
+                return;
+            }
+            if (THEORETICAL_ARRIVAL_TIME.compareAndSet(this, tat, tat - emissionIntervalNanos)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @param nowNanos current {@link System#nanoTime()} reading
+     * @return true when every permit is available, the state of a new bucket
+     */
+    public boolean isFull(long nowNanos) {
+        return theoreticalArrivalTime - nowNanos <= 0;
+    }
+}
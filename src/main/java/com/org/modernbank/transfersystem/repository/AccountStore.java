@@ -0,0 +1,398 @@
+package com.org.modernbank.transfersystem.repository;
+
+import com.org.modernbank.transfersystem.config.AccountTieringProperties;
+import com.org.modernbank.transfersystem.domain.Account;
+import com.org.modernbank.transfersystem.domain.TransactionHistory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.nio.ByteBuffer;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-memory store of all accounts in the system, indexed by account id.
+ *
+ * Transaction histories, which hold nearly all of an account's heap, are
+ * tiered: while resident histories take more than the heap budget, a clock
+ * sweep moves the histories of accounts that have not been used for a while
+ * to a {@link ColdHistoryStore} on disk. A history is faulted back in the next
+ * time it is used. Accounts themselves always stay in memory, so account
+ * identity and locking are unaffected by tiering, and balances are served
+ * without touching the disk. The budget bounds histories only: every account
+ * keeps its object and map entry resident, so heap still grows with the
+ * number of accounts, just at a small fixed cost per account.
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Component
+public class AccountStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccountStore.class);
+
+    // Assignment Guideline : Use in-memory data-structure to store all the data
+    private final ConcurrentMap<String, Account> accounts = new ConcurrentHashMap<>();
+
+    private final AccountTieringProperties properties;
+    private final long heapBudget;
+    private final AtomicLong residentBytes = new AtomicLong();
+    private final UnaryOperator<String> canonicalStrings = this::canonical;
+
+    // opened on the first eviction
+    private volatile ColdHistoryStore coldStore;
+    private volatile boolean running;
+    private volatile Thread evictor;
+    // clock hand, only moved by the evictor
+    private Iterator<Account> clockHand;
+
+    /**
+     * Store without tiering, every history stays in memory
+     */
+    public AccountStore() {
+        this(untiered());
+    }
+
+    @Autowired
+    public AccountStore(AccountTieringProperties properties) {
+        this.properties = properties;
+        this.heapBudget = properties.getHeapBudgetMb() << 20;
+    }
+
+    /**
+     * Starts evicting dormant histories in the background
+     */
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled() || evictor != null) {
+            return;
+        }
+        running = true;
+        evictor = new Thread(this::sweep, "account-evictor");
+        evictor.setDaemon(true);
+        evictor.start();
+    }
+
+    /**
+     * Stops the evictor and deletes the cold tier
+     */
+    @PreDestroy
+    public void close() throws InterruptedException {
+        running = false;
+        if (evictor != null) {
+            LockSupport.unpark(evictor);
+            evictor.join();
+        }
+        if (coldStore != null) {
+            coldStore.close();
+        }
+    }
+
+    /**
+     * Finds an account by its id
+     * @param accountId account id
+     * @return account if present
+     */
+    public Optional<Account> findById(String accountId) {
+        return Optional.ofNullable(accounts.get(accountId));
+    }
+
+    /**
+     * Finds an account by its id without allocating
+     * @param accountId account id
+     * @return account, or null if there is none
+     */
+    public Account get(String accountId) {
+        return accounts.get(accountId);
+    }
+
+    /**
+     * Adds the account unless another account already uses its id
+     * @param account new account
+     * @return true when the account was added
+     */
+    public boolean addIfAbsent(Account account) {
+        if (accounts.putIfAbsent(account.getAccountId(), account) != null) {
+            return false;
+        }
+        charge(account.getHistory().footprint());
+        return true;
+    }
+
+    /**
+     * Removes an account and frees its history, in memory or in the cold tier.
+     * The account is marked removed, so a transfer that looked it up before
+     * is refused once it has the lock. Must not be called holding the lock
+     * of another account.
+     * @param account account
+     * @return true when the account was removed
+     */
+    public boolean remove(Account account) {
+        synchronized (account) {
+            if (!accounts.remove(account.getAccountId(), account)) {
+                return false;
+            }
+            account.setRemoved(true);
+            TransactionHistory history = account.getHistory();
+            if (history.isResident()) {
+                charge(-history.footprint());
+            } else {
+                coldStore.free(history.getColdLocation(), history.getColdLength());
+            }
+            return true;
+        }
+    }
+
+    /**
+     * @return all accounts in the system
+     */
+    public Collection<Account> findAll() {
+        return accounts.values();
+    }
+
+    /**
+     * @return number of accounts in the system
+     */
+    public int size() {
+        return accounts.size();
+    }
+
+    /**
+     * Transaction history of an account for reading or appending, faulted in
+     * from the cold tier when it was evicted. Must be called holding the
+     * account lock.
+     * @param account account
+     * @return resident history
+     */
+    public TransactionHistory history(Account account) {
+        TransactionHistory history = account.getHistory();
+        if (!history.isResident()) {
+            long location = history.getColdLocation();
+            int length = history.getColdLength();
+            decode(location, length, history);
+            coldStore.free(location, length);
+            charge(history.footprint());
+        }
+        account.touch(System.currentTimeMillis());
+        return history;
+    }
+
+    /**
+     * Transaction history of an account for reading only. An evicted
+     * history is decoded into the scratch history and stays evicted, so
+     * scanning every account does not pull the cold tier into memory. Must be
+     * called holding the account lock.
+     * @param account account
+     * @param scratch history reused to decode evicted histories
+     * @return the resident history, or the scratch history
+     */
+    public TransactionHistory readHistory(Account account, TransactionHistory scratch) {
+        TransactionHistory history = account.getHistory();
+        if (history.isResident()) {
+            return history;
+        }
+        decode(history.getColdLocation(), history.getColdLength(), scratch);
+        return scratch;
+    }
+
+    /**
+     * Copy of an account's details and its whole transaction history, for
+     * responses. An evicted history is read from disk and stays evicted. Must
+     * be called holding the account lock.
+     * @param account account
+     * @return detached copy of the account
+     */
+    public Account snapshot(Account account) {
+        Account copy = new Account();
+        copy.setAccountId(account.getAccountId());
+        copy.setBalanceAmount(account.getBalanceAmount());
+        copy.setCurrencyCode(account.getCurrencyCode());
+        copy.setOpeningBalance(account.getOpeningBalance());
+        TransactionHistory copyHistory = copy.getHistory();
+        TransactionHistory history = readHistory(account, copyHistory);
+        if (history != copyHistory) {
+            for (int i = 0; i < history.size(); i++) {
+                copyHistory.append(history.getTransferId(i), history.getCounterparty(i), history.getAmount(i),
+                        history.getCurrency(i), history.isDebit(i), history.getTimestamp(i));
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Accounts for heap taken by resident histories, waking the evictor when
+     * the budget is crossed
+     * @param bytes bytes added, negative when released
+     */
+    public void charge(long bytes) {
+        if (bytes == 0) {
+            return;
+        }
+        long resident = residentBytes.addAndGet(bytes);
+        Thread thread = evictor;
+        if (thread != null && resident > heapBudget && resident - bytes <= heapBudget) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * @return estimated heap bytes of all resident histories
+     */
+    public long residentBytes() {
+        return residentBytes.get();
+    }
+
+    /**
+     * Moves the history of an account to the cold tier right away. Must not
+     * be called holding the lock of another account.
+     * @param account account
+     * @return true when the history was evicted
+     */
+    public boolean evict(Account account) {
+        synchronized (account) {
+            TransactionHistory history = account.getHistory();
+            if (!properties.isEnabled() || !history.isResident() || history.size() == 0) {
+                return false;
+            }
+            spill(history);
+            return true;
+        }
+    }
+
+    /**
+     * Runs the clock until resident histories are back under 90% of the
+     * budget. A hand visit clears the referenced bit of a used account and
+     * evicts one that was not used since the last visit and has been idle
+     * for the configured time. The hand goes round at most twice per call.
+     * @param nowMillis current time in epoch milliseconds
+     * @return number of histories evicted
+     */
+    int evictToBudget(long nowMillis) {
+        if (residentBytes.get() <= heapBudget) {
+            return 0;
+        }
+        long target = heapBudget - heapBudget / 10;
+        long idleBefore = nowMillis - TimeUnit.SECONDS.toMillis(properties.getMinIdleSeconds());
+        int maxVisits = 2 * accounts.size();
+        int evicted = 0;
+        for (int visits = 0; visits < maxVisits && residentBytes.get() > target; visits++) {
+            if (clockHand == null || !clockHand.hasNext()) {
+                clockHand = accounts.values().iterator();
+                if (!clockHand.hasNext()) {
+                    break;
+                }
+            }
+            Account account = clockHand.next();
+            synchronized (account) {
+                TransactionHistory history = account.getHistory();
+                if (!history.isResident() || history.size() == 0) {
+                    continue;
+                }
+                if (account.isReferenced()) {
+                    account.setReferenced(false);
+                    continue;
+                }
+                if (account.getLastAccessMillis() > idleBefore) {
+                    continue;
+                }
+                spill(history);
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Rewrites evicted histories out of sparse cold segments, so their
+     * segments can be deleted
+     * @return number of histories moved
+     */
+    int compact() {
+        ColdHistoryStore store = coldStore;
+        if (store == null || !store.hasSparseSegments()) {
+            return 0;
+        }
+        int moved = 0;
+        for (Account account : accounts.values()) {
+            synchronized (account) {
+                TransactionHistory history = account.getHistory();
+                if (history.isResident() || !store.isSparse(history.getColdLocation())) {
+                    continue;
+                }
+                long location = history.getColdLocation();
+                int length = history.getColdLength();
+                history.relocate(store.write(store.read(location, length)));
+                store.free(location, length);
+                moved++;
+            }
+        }
+        return moved;
+    }
+
+    private void sweep() {
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(properties.getSweepIntervalMillis());
+        while (running) {
+            try {
+                int evicted = evictToBudget(System.currentTimeMillis());
+                if (evicted > 0) {
+                    logger.debug("Evicted {} account histories, {} bytes resident", evicted, residentBytes.get());
+                }
+                compact();
+            } catch (RuntimeException e) {
+                logger.error("Account history eviction failed", e);
+            }
+            LockSupport.parkNanos(this, intervalNanos);
+        }
+    }
+
+    // caller holds the account lock
+    private void spill(TransactionHistory history) {
+        ByteBuffer record = history.encode();
+        int length = record.remaining();
+        long footprint = history.footprint();
+        history.release(coldStore().write(record), length);
+        charge(-footprint);
+    }
+
+    private void decode(long location, int length, TransactionHistory into) {
+        into.decode(coldStore.read(location, length), canonicalStrings);
+    }
+
+    private ColdHistoryStore coldStore() {
+        ColdHistoryStore store = coldStore;
+        if (store == null) {
+            synchronized (this) {
+                store = coldStore;
+                if (store == null) {
+                    store = new ColdHistoryStore(Paths.get(properties.getPath()));
+                    coldStore = store;
+                }
+            }
+        }
+        return store;
+    }
+
+    // counterparties decode to the account's own id string and currencies to one shared instance
+    private String canonical(String value) {
+        Account account = accounts.get(value);
+        return account != null ? account.getAccountId() : value.intern();
+    }
+
+    private static AccountTieringProperties untiered() {
+        AccountTieringProperties properties = new AccountTieringProperties();
+        properties.setEnabled(false);
+        return properties;
+    }
+}
@@ -0,0 +1,290 @@
+package com.org.modernbank.transfersystem.repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * File-backed tier for the transaction histories of dormant accounts.
+ *
+ * Records are appended to segment files of about {@value #SEGMENT_SIZE}
+ * bytes and addressed by a location packing the segment number and the
+ * offset. A record is freed when its history is faulted back in; a segment
+ * is deleted once none of its records are live, and a segment that is
+ * mostly free is reported as sparse so its live records can be rewritten.
+ *
+ * The tier is a cache of in-memory state and does not survive a restart.
+ * Every store keeps its segments in a directory of its own under the
+ * configured one, locked with a lock file while the store is open, so
+ * instances sharing a path never touch each other's segments. Directories
+ * whose lock is free were left behind by a store that is gone and are
+ * deleted when another store is opened.
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+public class ColdHistoryStore {
+
+    static final long SEGMENT_SIZE = 64L << 20;
+
+    private static final int OFFSET_BITS = 40;
+    private static final long OFFSET_MASK = (1L << OFFSET_BITS) - 1;
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String INSTANCE_PREFIX = "instance-";
+    private static final String LOCK_FILE = "store.lock";
+
+    private final Path directory;
+    private final FileChannel lockChannel;
+    private final ConcurrentMap<Integer, Segment> segments = new ConcurrentHashMap<>();
+
+    // written under the lock of this store
+    private volatile Segment current;
+    private int nextSegmentId;
+
+    /**
+     * Opens the tier in a new directory of its own, deleting the directories
+     * of stores that are no longer open
+     * @param root directory the store directories are kept in
+     */
+    public ColdHistoryStore(Path root) {
+        try {
+            Files.createDirectories(root);
+            deleteAbandoned(root);
+            this.directory = Files.createTempDirectory(root, INSTANCE_PREFIX);
+            this.lockChannel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.WRITE);
+            // held until close, the directory is new so nobody else can hold it
+            lockChannel.lock();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Appends a record
+     * @param record record bytes, from position to limit
+     * @return location of the record
+     */
+    public synchronized long write(ByteBuffer record) {
+        int length = record.remaining();
+        if (current == null || (current.size > 0 && current.size + length > SEGMENT_SIZE)) {
+            Segment full = current;
+            current = openSegment();
+            if (full != null && full.liveBytes.get() == 0) {
+                segments.remove(full.id);
+                full.delete();
+            }
+        }
+        Segment segment = current;
+        long offset = segment.size;
+        try {
+            while (record.hasRemaining()) {
+                segment.channel.write(record, offset + length - record.remaining());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        segment.size += length;
+        segment.liveBytes.addAndGet(length);
+        return ((long) segment.id << OFFSET_BITS) | offset;
+    }
+
+    /**
+     * Reads a live record
+     * @param location location returned by {@link #write(ByteBuffer)}
+     * @param length record length
+     * @return record bytes
+     */
+    public ByteBuffer read(long location, int length) {
+        Segment segment = segment(location);
+        ByteBuffer record = ByteBuffer.allocate(length);
+        long offset = location & OFFSET_MASK;
+        try {
+            while (record.hasRemaining()) {
+                if (segment.channel.read(record, offset + record.position()) < 0) {
+                    throw new IOException("Truncated record in " + segment.path);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        record.flip();
+        return record;
+    }
+
+    /**
+     * Frees a record, deleting its segment once nothing in it is live
+     * @param location location returned by {@link #write(ByteBuffer)}
+     * @param length record length
+     */
+    public void free(long location, int length) {
+        Segment segment = segment(location);
+        if (segment.liveBytes.addAndGet(-length) == 0) {
+            synchronized (this) {
+                if (segment != current && segment.liveBytes.get() == 0) {
+                    segments.remove(segment.id);
+                    segment.delete();
+                }
+            }
+        }
+    }
+
+    /**
+     * @param location location returned by {@link #write(ByteBuffer)}
+     * @return true when the record is in a segment worth compacting
+     */
+    public boolean isSparse(long location) {
+        Segment segment = segments.get((int) (location >>> OFFSET_BITS));
+        return segment != null && isSparse(segment);
+    }
+
+    /**
+     * @return true when some segment is worth compacting
+     */
+    public boolean hasSparseSegments() {
+        for (Segment segment : segments.values()) {
+            if (isSparse(segment)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return bytes held by live records
+     */
+    public long liveBytes() {
+        long live = 0;
+        for (Segment segment : segments.values()) {
+            live += segment.liveBytes.get();
+        }
+        return live;
+    }
+
+    /**
+     * Closes and deletes all segments and the directory of this store
+     */
+    public synchronized void close() {
+        List<Segment> open = new ArrayList<>(segments.values());
+        segments.clear();
+        current = null;
+        for (Segment segment : open) {
+            segment.delete();
+        }
+        try {
+            lockChannel.close();
+            Files.deleteIfExists(directory.resolve(LOCK_FILE));
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return directory the segments of this store are kept in
+     */
+    Path directory() {
+        return directory;
+    }
+
+    // a store directory without a lock file is skipped, its store may be about to create it
+    private static void deleteAbandoned(Path root) throws IOException {
+        try (DirectoryStream<Path> instances = Files.newDirectoryStream(root, INSTANCE_PREFIX + "*")) {
+            for (Path instance : instances) {
+                Path lockFile = instance.resolve(LOCK_FILE);
+                try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.WRITE);
+                     FileLock lock = tryLock(channel)) {
+                    if (lock == null) {
+                        continue;
+                    }
+                    try (DirectoryStream<Path> segmentFiles = Files.newDirectoryStream(instance, "*" + SEGMENT_SUFFIX)) {
+                        for (Path segmentFile : segmentFiles) {
+                            Files.delete(segmentFile);
+                        }
+                    }
+                } catch (NoSuchFileException e) {
+                    continue;
+                }
+                Files.deleteIfExists(lockFile);
+                Files.deleteIfExists(instance);
+            }
+        }
+    }
+
+    // null when the store is still open, in this process or another one
+    private static FileLock tryLock(FileChannel channel) throws IOException {
+        try {
+            return channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            return null;
+        }
+    }
+
+    // a full segment with less than a quarter of its bytes live
+    private boolean isSparse(Segment segment) {
+        return segment != current && segment.liveBytes.get() < segment.size / 4;
+    }
+
+    private Segment segment(long location) {
+        Segment segment = segments.get((int) (location >>> OFFSET_BITS));
+        if (segment == null) {
+            throw new IllegalStateException("No cold segment for location " + location);
+        }
+        return segment;
+    }
+
+    private Segment openSegment() {
+        int id = nextSegmentId++;
+        Path path = directory.resolve(String.format("history-%08d%s", id, SEGMENT_SUFFIX));
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            Segment segment = new Segment(id, path, channel);
+            segments.put(id, segment);
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * One segment file
+     */
+    private static final class Segment {
+
+        private final int id;
+        private final Path path;
+        private final FileChannel channel;
+        private final AtomicLong liveBytes = new AtomicLong();
+        // written under the store lock
+        private volatile long size;
+
+        private Segment(int id, Path path, FileChannel channel) {
+            this.id = id;
+            this.path = path;
+            this.channel = channel;
+        }
+
+        private void delete() {
+            try {
+                channel.close();
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.org.modernbank.transfersystem.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.org.modernbank.transfersystem.config.EventProperties;
+import com.org.modernbank.transfersystem.domain.Account;
+import com.org.modernbank.transfersystem.domain.ImportError;
+import com.org.modernbank.transfersystem.domain.ImportResponse;
+import com.org.modernbank.transfersystem.events.EventBus;
+import com.org.modernbank.transfersystem.repository.AccountStore;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static com.org.modernbank.transfersystem.constants.ErrorMessageConstants.*;
+
+/**
+ * Bulk import of accounts from CSV or newline delimited JSON.
+ *
+ * The upload is read in chunks; each chunk is parsed and validated in
+ * parallel on the fork/join pool and then loaded into the account store in
+ * file order, so the first occurrence of a duplicated account id wins.
+ * Every imported account is published as a new account event unless
+ * "events.publish-imports" is turned off.
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Service
+public class AccountImportService {
+
+    /**
+     * Supported upload formats
+     */
+    public enum Format {
+        // accountId,balanceAmount,currencyCode with an optional header line
+        CSV,
+        // one account json object per line
+        NDJSON
+    }
+
+    private static final int CHUNK_SIZE = 50_000;
+    private static final int PARSE_THRESHOLD = 2_000;
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final String CSV_HEADER = "accountId";
+
+    private final AccountStore accountStore;
+    private final ObjectMapper objectMapper;
+    private final EventBus eventBus;
+    private final boolean publishImports;
+
+    public AccountImportService(AccountStore accountStore, ObjectMapper objectMapper, EventBus eventBus,
+                                EventProperties eventProperties) {
+        this.accountStore = accountStore;
+        this.objectMapper = objectMapper;
+        this.eventBus = eventBus;
+        this.publishImports = eventProperties.isPublishImports();
+    }
+
+    /**
+     * Imports all accounts from the stream
+     * @param input accounts, one per line
+     * @param format format of the lines
+     * @return import summary
+     */
+    public ImportResponse importAccounts(InputStream input, Format format) throws IOException {
+        ImportResponse importResponse = new ImportResponse();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+
+        List<String> chunk = new ArrayList<>(CHUNK_SIZE);
+        long chunkStartLine = 1;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (chunkStartLine == 1 && chunk.isEmpty() && format == Format.CSV && isCsvHeader(line)) {
+                // skip the header line
+                chunkStartLine++;
+                continue;
+            }
+            chunk.add(line);
+            if (chunk.size() == CHUNK_SIZE) {
+                importChunk(chunk, chunkStartLine, format, importResponse);
+                chunkStartLine += chunk.size();
+                chunk.clear();
+            }
+        }
+        importChunk(chunk, chunkStartLine, format, importResponse);
+
+        importResponse.setStatus(importResponse.getRejectedCount() == 0);
+        return importResponse;
+    }
+
+    // only a first field of exactly accountId is a header, an account id that starts with it is data
+    private static boolean isCsvHeader(String line) {
+        int end = line.indexOf(',');
+        return CSV_HEADER.equals((end < 0 ? line : line.substring(0, end)).trim());
+    }
+
+    /**
+     * Parses a chunk in parallel and loads it into the account store
+     * @param lines lines of the chunk
+     * @param firstLineNumber line number of the first line in the chunk
+     * @param format format of the lines
+     * @param importResponse import summary to update
+     */
+    private void importChunk(List<String> lines, long firstLineNumber, Format format, ImportResponse importResponse) {
+        if (lines.isEmpty()) {
+            return;
+        }
+        Account[] accounts = new Account[lines.size()];
+        String[] errors = new String[lines.size()];
+        ForkJoinPool.commonPool().invoke(new ParseTask(lines, 0, lines.size(), format, accounts, errors));
+
+        for (int i = 0; i < accounts.length; i++) {
+            String error = errors[i];
+            if (error == null && accounts[i] != null && !accountStore.addIfAbsent(accounts[i])) {
+                error = ACCOUNT_ALREADY_EXISTS_IN_THE_SYSTEM;
+            }
+            if (error != null) {
+                reject(importResponse, firstLineNumber + i, error);
+            } else if (accounts[i] != null) {
+                importResponse.setImportedCount(importResponse.getImportedCount() + 1);
+                if (publishImports) {
+                    eventBus.publishAccountCreated(accounts[i].getAccountId(), accounts[i].getCurrencyCode(),
+                            accounts[i].getOpeningBalance());
+                }
+            }
+        }
+    }
+
+    private static void reject(ImportResponse importResponse, long lineNumber, String reason) {
+        importResponse.setRejectedCount(importResponse.getRejectedCount() + 1);
+        if (importResponse.getErrors().size() < MAX_REPORTED_ERRORS) {
+            importResponse.getErrors().add(new ImportError(lineNumber, reason));
+        }
+    }
+
+    /**
+     * Parses and validates a single line, blank lines are ignored
+     * @param line line to parse
+     * @param format format of the line
+     * @param accounts parsed accounts
+     * @param errors validation errors
+     * @param index position of the line in the chunk
+     */
+    private void parseLine(String line, Format format, Account[] accounts, String[] errors, int index) {
+        if (StringUtils.isBlank(line)) {
+            return;
+        }
+        Account account = format == Format.CSV ? parseCsv(line) : parseJson(line);
+        String error = account == null ? INVALID_ACCOUNT_RECORD : AccountValidator.validate(account);
+        if (error != null) {
+            errors[index] = error;
+            return;
+        }
+        account.setOpeningBalance(account.getBalanceAmount());
+        accounts[index] = account;
+    }
+
+    private static Account parseCsv(String line) {
+        String[] fields = line.split(",", -1);
+        if (fields.length != 3) {
+            return null;
+        }
+        Account account = new Account();
+        account.setAccountId(fields[0].trim());
+        try {
+            account.setBalanceAmount(Double.parseDouble(fields[1].trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        account.setCurrencyCode(fields[2].trim());
+        return account;
+    }
+
+    private Account parseJson(String line) {
+        try {
+            return objectMapper.readValue(line, Account.class);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Splits a chunk of lines until it is small enough to parse sequentially.
+     * Every leaf writes to its own range of the result arrays.
+     */
+    private final class ParseTask extends RecursiveAction {
+
+        private final List<String> lines;
+        private final int from;
+        private final int to;
+        private final Format format;
+        private final Account[] accounts;
+        private final String[] errors;
+
+        private ParseTask(List<String> lines, int from, int to, Format format, Account[] accounts, String[] errors) {
+            this.lines = lines;
+            this.from = from;
+            this.to = to;
+            this.format = format;
+            this.accounts = accounts;
+            this.errors = errors;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARSE_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    parseLine(lines.get(i), format, accounts, errors, i);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ParseTask(lines, from, middle, format, accounts, errors),
+                    new ParseTask(lines, middle, to, format, accounts, errors));
+        }
+    }
+}
@@ -2,12 +2,17 @@ package com.org.modernbank.transfersystem.services;
 
 import com.org.modernbank.transfersystem.domain.*;
 import com.org.modernbank.transfersystem.exceptions.AccountException;
+import com.org.modernbank.transfersystem.events.EventBus;
 import com.org.modernbank.transfersystem.exceptions.DuplicateException;
+import com.org.modernbank.transfersystem.ledger.TransferSequence;
+import com.org.modernbank.transfersystem.repository.AccountStore;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 
 import static com.org.modernbank.transfersystem.constants.ErrorMessageConstants.*;
 
@@ -22,19 +27,41 @@ import static com.org.modernbank.transfersystem.constants.ErrorMessageConstants.
 @Qualifier(("accountService"))
 public class AccountService {
 
+    // one reusable command per request thread
+    private static final ThreadLocal<TransferCommand> TRANSFER_COMMANDS = ThreadLocal.withInitial(TransferCommand::new);
+
+    private final AccountStore accountStore;
+    private final TransferLimitService transferLimitService;
+    private final TransferSequence transferSequence;
+    private final EventBus eventBus;
+
+    public AccountService(AccountStore accountStore, TransferLimitService transferLimitService,
+                          TransferSequence transferSequence, EventBus eventBus) {
+        this.accountStore = accountStore;
+        this.transferLimitService = transferLimitService;
+        this.transferSequence = transferSequence;
+        this.eventBus = eventBus;
+    }
+
     /**
      * get the account balance for the account id
      * @param accountId account id for the account
-     * @param allAccounts all accounts in the system
      * @return Balance response
      */
-    public BalanceResponse getBalance(String accountId, List<Account> allAccounts){
-        Optional<Account> accountOptional = allAccounts.stream().filter(account -> account.getAccountId().equals(accountId)).findFirst();
+    public BalanceResponse getBalance(String accountId){
+        Optional<Account> accountOptional = accountStore.findById(accountId);
         if(accountOptional.isPresent()){
             // build response
             Account account = accountOptional.get();
-            BalanceResponse balanceResponse = new BalanceResponse(account.getAccountId(), account.getBalanceAmount(),
+            double balance;
+            long held;
+            synchronized (account) {
+                balance = account.getBalanceAmount();
+                held = account.getHeldMinorUnits();
+            }
+            BalanceResponse balanceResponse = new BalanceResponse(account.getAccountId(), balance,
                     account.getCurrencyCode());
+            balanceResponse.setAvailableBalance(Money.fromMinorUnits(Money.toMinorUnits(balance) - held));
             return balanceResponse;
         } else {
             // Account does not exist in the system
@@ -47,156 +74,237 @@ public class AccountService {
      * @param toAccountid credit account
      * @param amount amount to be transferred
      * @param currencyCode currency of the transaction
-     * @param allAccounts all accounts in the system
      */
     public TransferResponse transferAmount(String fromAccountId, String toAccountid, double amount,
-                                           String currencyCode, List<Account> allAccounts){
+                                           String currencyCode){
 
-        // Get the accounts using account id
-        Optional<Account> fromAccount = allAccounts.stream().filter(account -> account.getAccountId().equals(fromAccountId)).findFirst();
-        Optional<Account> toAccount = allAccounts.stream().filter(account -> account.getAccountId().equals(toAccountid)).findFirst();
+        TransferCommand command = TRANSFER_COMMANDS.get();
+        command.reset();
+        command.setFromAccountId(fromAccountId);
+        command.setToAccountId(toAccountid);
+        command.setAmount(amount);
+        command.setCurrencyCode(currencyCode);
 
-        if(fromAccount.isPresent()){
-            if(toAccount.isPresent()){
-                // debit and credit accounts
-                updateBalances(amount, fromAccount, toAccount);
+        try {
+            transfer(command);
 
-                // create transaction
-                transact(fromAccountId, toAccountid, amount, currencyCode, fromAccount, toAccount);
+            return buildResponse(command);
+        } finally {
+            // the thread outlives the request, do not keep its accounts reachable
+            command.reset();
+        }
+    }
 
-                return buildResponse(fromAccount, toAccount);
-            } else {
-                // Invalid Receiver account
-                throw new AccountException(INVALID_RECEIVER_ACCOUNT);
-            }
-        } else {
+    /**
+     * Debits one account and credits the amount to another account, writing
+     * the outcome back into the command. Allocates nothing once the command
+     * and both account histories are warm.
+     * @param command transfer request, receives the transfer result
+     */
+    public void transfer(TransferCommand command){
+
+        String fromAccountId = command.getFromAccountId();
+        String toAccountid = command.getToAccountId();
+        double amount = command.getAmount();
+        if(Money.toMinorUnits(amount) <= 0){
+            throw new AccountException(INVALID_TRANSFER_AMOUNT);
+        }
+
+        // Get the accounts using account id
+        Account fromAccount = accountStore.get(fromAccountId);
+        if(fromAccount == null){
             // Invalid Sender account
             throw new AccountException(INVALID_SENDER_ACCOUNT_DETAILS);
         }
+        Account toAccount = accountStore.get(toAccountid);
+        if(toAccount == null){
+            // Invalid Receiver account
+            throw new AccountException(INVALID_RECEIVER_ACCOUNT);
+        }
+
+        // velocity checks for the sender, the quota goes back if the transfer fails
+        long reservedAt = transferLimitService.checkLimits(fromAccount.getAccountId(), amount);
+        boolean posted = false;
+        try {
+            // lock both accounts in account id order so opposite transfers cannot deadlock
+            Account first = fromAccountId.compareTo(toAccountid) <= 0 ? fromAccount : toAccount;
+            Account second = first == fromAccount ? toAccount : fromAccount;
+            synchronized (first) {
+                synchronized (second) {
+                    post(command, fromAccount, toAccount);
+                }
+            }
+            posted = true;
+        } finally {
+            if (!posted) {
+                transferLimitService.release(fromAccount.getAccountId(), amount, reservedAt);
+            }
+        }
+    }
+
+    /**
+     * Moves the amount of the command between two accounts and records the
+     * transfer. Must be called holding the locks of both accounts.
+     * @param command transfer request, receives the transfer result
+     * @param fromAccount debit account
+     * @param toAccount credit account
+     */
+    void post(TransferCommand command, Account fromAccount, Account toAccount){
+        // removed after the accounts were looked up
+        if(fromAccount.isRemoved()){
+            throw new AccountException(INVALID_SENDER_ACCOUNT_DETAILS);
+        }
+        if(toAccount.isRemoved()){
+            throw new AccountException(INVALID_RECEIVER_ACCOUNT);
+        }
+
+        // debit and credit accounts
+        updateBalances(command.getAmount(), fromAccount, toAccount);
+
+        // create transaction
+        transact(command, fromAccount, toAccount);
+
+        // publishing never waits on subscribers, doing it under the locks keeps each account's events in order
+        eventBus.publishTransfer(command.getTransferId(), command.getFromAccountId(), command.getToAccountId(),
+                command.getAmount(), command.getCurrencyCode(), command.getTimestamp());
+
+        command.setFromAccount(fromAccount);
+        command.setToAccount(toAccount);
     }
 
     /**
      * Get mini statement for the account id
      * @param accountId account id for mini statement
-     * @param allAccounts all accounts in the system
      * @return mini statement
      */
-    public TransactionResponse getMiniStatement(String accountId, List<Account> allAccounts){
-        Optional<Account> accountOptional = allAccounts.stream().filter(account -> account.getAccountId().equals(accountId)).findFirst();
+    public TransactionResponse getMiniStatement(String accountId){
+        Optional<Account> accountOptional = accountStore.findById(accountId);
         if(accountOptional.isPresent()){
             // get latest 20 transactions
-            return getLatest20Transactions(accountOptional.get());
-        } else {
-            // Account does not exist in the system
-            throw new AccountException(UNABLE_TO_GET_THE_STATEMENT_DUE_TO_INVALID_ACCOUNT_ID);
+            Account account = accountOptional.get();
+            synchronized (account) {
+                // removed since the lookup
+                if(!account.isRemoved()){
+                    return getLatest20Transactions(accountStore.history(account));
+                }
+            }
         }
+        // Account does not exist in the system
+        throw new AccountException(UNABLE_TO_GET_THE_STATEMENT_DUE_TO_INVALID_ACCOUNT_ID);
     }
 
     /**
      * Create an account in the system
      * @param newAccount new account details
-     * @param allAccounts in memory store for all accounts
      */
-    public AccountResponse createAccount(Account newAccount, List<Account> allAccounts){
-        if(allAccounts.stream().anyMatch(accountObj -> accountObj.getAccountId().equals(newAccount.getAccountId()))){
+    public AccountResponse createAccount(Account newAccount){
+        String error = AccountValidator.validate(newAccount);
+        if(error != null){
+            throw new AccountException(error);
+        }
+        newAccount.setOpeningBalance(newAccount.getBalanceAmount());
+        if(!accountStore.addIfAbsent(newAccount)){
             throw new DuplicateException(ACCOUNT_ALREADY_EXISTS_IN_THE_SYSTEM);
         }
-        newAccount.setTransactions(new ArrayList());
-        allAccounts.add(newAccount);
+        eventBus.publishAccountCreated(newAccount.getAccountId(), newAccount.getCurrencyCode(),
+                newAccount.getOpeningBalance());
 
         AccountResponse accountResponse = new AccountResponse();
         accountResponse.setStatus(true);
-        accountResponse.setAccount(newAccount);
+        accountResponse.setAccount(snapshot(newAccount));
         return accountResponse;
 
     }
-    private static void updateBalances(double amount, Optional<Account> fromAccount, Optional<Account> toAccount) {
-        double accountBalanceAfterTransfer = fromAccount.get().getBalanceAmount() - amount;
-        if(accountBalanceAfterTransfer < 0){
+
+    // responses are serialized after the lock is released, so they get a copy with the whole history
+    private Account snapshot(Account account) {
+        synchronized (account) {
+            return accountStore.snapshot(account);
+        }
+    }
+    private static void updateBalances(double amount, Account fromAccount, Account toAccount) {
+        double accountBalanceAfterTransfer = fromAccount.getBalanceAmount() - amount;
+        // funds on hold are not available to other transfers
+        if(accountBalanceAfterTransfer < 0
+                || Money.toMinorUnits(accountBalanceAfterTransfer) < fromAccount.getHeldMinorUnits()){
             throw new AccountException(INSUFFICIENT_ACCOUNT_BALANCE_IN_SENDER_ACCOUNT);
         }
-        fromAccount.get().setBalanceAmount(accountBalanceAfterTransfer);
-        toAccount.get().setBalanceAmount(toAccount.get().getBalanceAmount() + amount);
+        fromAccount.setBalanceAmount(accountBalanceAfterTransfer);
+        toAccount.setBalanceAmount(toAccount.getBalanceAmount() + amount);
+    }
+
+    /**
+     * Builds the record of a completed transfer
+     * @param command completed transfer
+     * @return transfer record
+     */
+    static TransferRecord buildRecord(TransferCommand command) {
+        TransferRecord transfer = new TransferRecord();
+        transfer.setSequence(command.getTransferId());
+        transfer.setFromAccountId(command.getFromAccountId());
+        transfer.setToAccountId(command.getToAccountId());
+        transfer.setAmount(command.getAmount());
+        transfer.setCurrency(command.getCurrencyCode());
+        transfer.setTransactionDate(new Date(command.getTimestamp()));
+        return transfer;
     }
 
     /**
      * Builds the final response for the transaction status
-     * @param fromAccount debit account
-     * @param toAccount credit account
+     * @param command completed transfer
      * @return transfer response
      */
-    private static TransferResponse buildResponse(Optional<Account> fromAccount, Optional<Account> toAccount) {
+    private TransferResponse buildResponse(TransferCommand command) {
+        TransferRecord transfer = buildRecord(command);
+
         List<Account> updatedAccounts = new ArrayList<>();
-        updatedAccounts.add(fromAccount.get());
-        updatedAccounts.add(toAccount.get());
+        updatedAccounts.add(snapshot(command.getFromAccount()));
+        updatedAccounts.add(snapshot(command.getToAccount()));
         TransferResponse transferResponse = new TransferResponse();
         transferResponse.setUpdatedAccountDetails(updatedAccounts);
+        transferResponse.setTransfer(transfer);
         transferResponse.setStatus(true);
         return transferResponse;
     }
 
     /**
-     * Performs the transaction
-     * @param fromAccountId debit account id
-     * @param toAccountid credit account id
-     * @param amount amount to be transferred
-     * @param currencyCode
+     * Performs the transaction. Must be called holding the locks of both accounts,
+     * so the sequence numbers in every account's history are in increasing order.
+     * Evicted histories are faulted back in first.
+     * @param command transfer request, receives the sequence number and time
      * @param fromAccount debit account
      * @param toAccount credit account
      */
-    private static void transact(String fromAccountId, String toAccountid, double amount, String currencyCode, Optional<Account> fromAccount, Optional<Account> toAccount) {
+    private void transact(TransferCommand command, Account fromAccount, Account toAccount) {
 
-        Transaction debitTransaction = createTransaction(toAccountid, amount, currencyCode,
-                new Date(), "DEBIT");
-        Transaction creditTransaction =  createTransaction(fromAccountId, amount, currencyCode,
-                new Date(), "CREDIT");
+        TransactionHistory fromHistory = accountStore.history(fromAccount);
+        TransactionHistory toHistory = accountStore.history(toAccount);
+        long transferId = transferSequence.next();
+        long timestamp = System.currentTimeMillis();
+        double amount = command.getAmount();
+        // histories keep the account's own strings rather than ones from the request
+        String currencyCode = fromAccount.getCurrencyCode() != null
+                && fromAccount.getCurrencyCode().equals(command.getCurrencyCode())
+                ? fromAccount.getCurrencyCode() : command.getCurrencyCode();
 
-        fromAccount.get().getTransactions().add(debitTransaction);
-        toAccount.get().getTransactions().add(creditTransaction);
-    }
+        long grown = fromHistory.append(transferId, toAccount.getAccountId(), amount, currencyCode, true, timestamp)
+                + toHistory.append(transferId, fromAccount.getAccountId(), amount, currencyCode, false, timestamp);
+        accountStore.charge(grown);
 
-    /**
-     * Creates a transaction
-     * @param accountId account id of the transaction
-     * @param amount amount to be transferred
-     * @param currencyCode currency of the amount
-     * @param transactionDate date of transfer
-     * @param type type of transfer
-     * @return transaction
-     */
-    private static Transaction createTransaction(String accountId, double amount, String currencyCode,
-                                                 Date transactionDate, String type) {
-        Transaction debitTransaction = new Transaction();
-        debitTransaction.setAccountId(accountId);
-        debitTransaction.setAmount(amount);
-        debitTransaction.setCurrency(currencyCode);
-        debitTransaction.setType(type);
-        debitTransaction.setTransactionDate(transactionDate);
-        return debitTransaction;
+        command.setTransferId(transferId);
+        command.setTimestamp(timestamp);
     }
 
     /**
-     * Get latest 20 transactions
-     * @param account account
+     * Get latest 20 transactions. The history is appended in transfer sequence
+     * order, so the latest transactions are the last ones.
+     * @param history transaction history of the account
      * @return transactions
      */
-    private static TransactionResponse getLatest20Transactions(Account account) {
-
-        // comparator to compare transaction dates
-        Comparator<Transaction> comparator = (c1, c2) -> {
-            return Long.valueOf(c1.getTransactionDate().getTime()).compareTo(c2.getTransactionDate().getTime());
-        };
-
-        // sorting the transactions
-        List<Transaction> sortedTransactions = account.getTransactions().stream()
-                .sorted(comparator.reversed())
-                .collect(Collectors.toList());
-
-        // limit latest 20 transactions
+    private static TransactionResponse getLatest20Transactions(TransactionHistory history) {
         TransactionResponse transactionResponse
                 = new TransactionResponse();
-        transactionResponse.setTransactions(sortedTransactions
-                .subList(0,sortedTransactions.size() >= 20 ? 20: sortedTransactions.size()));
+        transactionResponse.setTransactions(history.getLatestTransactions(20));
         return transactionResponse;
     }
 }
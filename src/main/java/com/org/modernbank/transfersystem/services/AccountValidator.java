@@ -0,0 +1,40 @@
+package com.org.modernbank.transfersystem.services;
+
+import com.org.modernbank.transfersystem.domain.Account;
+import org.apache.commons.lang3.StringUtils;
+
+import static com.org.modernbank.transfersystem.constants.ErrorMessageConstants.*;
+
+/**
+ * Account rules shared by account creation and the bulk import, so both
+ * accept the same accounts: an account id, a finite non-negative balance
+ * and a three letter upper case currency code.
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+final class AccountValidator {
+
+    private AccountValidator() {
+    }
+
+    /**
+     * Validates the details of a new account
+     * @param account new account details
+     * @return reason the account is invalid, null when it is valid
+     */
+    static String validate(Account account) {
+        if (StringUtils.isBlank(account.getAccountId())) {
+            return INVALID_ACCOUNT_ID;
+        }
+        double balance = account.getBalanceAmount();
+        if (Double.isNaN(balance) || Double.isInfinite(balance) || balance < 0) {
+            return INVALID_BALANCE_AMOUNT;
+        }
+        String currencyCode = account.getCurrencyCode();
+        if (currencyCode == null || currencyCode.length() != 3 || !StringUtils.isAllUpperCase(currencyCode)) {
+            return INVALID_CURRENCY_CODE;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,280 @@
+package com.org.modernbank.transfersystem.services;
+
+import com.org.modernbank.transfersystem.config.HoldProperties;
+import com.org.modernbank.transfersystem.domain.Account;
+import com.org.modernbank.transfersystem.domain.Hold;
+import com.org.modernbank.transfersystem.domain.HoldResponse;
+import com.org.modernbank.transfersystem.domain.TransferCommand;
+import com.org.modernbank.transfersystem.exceptions.AccountException;
+import com.org.modernbank.transfersystem.repository.AccountStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.org.modernbank.transfersystem.constants.ErrorMessageConstants.*;
+
+/**
+ * Two-phase transfers: a hold reserves funds on the sender account and is
+ * later captured, in full or in part, voided, or left to expire.
+ *
+ * The funds on hold are kept as a running total on the account, so checking
+ * the available balance is one subtraction however many holds are open.
+ * Active holds are indexed by expiry time; a periodic sweep releases the
+ * expired prefix of the index instead of running a timer per hold. A hold
+ * is also treated as expired when it is used after its expiry time but
+ * before the sweep got to it. Authorizing reserves the hold amount against
+ * the sender's transfer limits; the part that is not captured is handed
+ * back when the hold is captured, voided or expires.
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Service
+public class HoldService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HoldService.class);
+
+    private static final Comparator<Hold> EXPIRY_ORDER = Comparator
+            .comparingLong((Hold hold) -> hold.getExpiresAt().getTime())
+            .thenComparingLong(Hold::getHoldId);
+
+    private final AccountStore accountStore;
+    private final AccountService accountService;
+    private final TransferLimitService transferLimitService;
+    private final HoldProperties properties;
+
+    private final AtomicLong nextHoldId = new AtomicLong();
+    private final ConcurrentMap<Long, Hold> holds = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Hold> expiryIndex = new ConcurrentSkipListSet<>(EXPIRY_ORDER);
+
+    public HoldService(AccountStore accountStore, AccountService accountService,
+                       TransferLimitService transferLimitService, HoldProperties properties) {
+        this.accountStore = accountStore;
+        this.accountService = accountService;
+        this.transferLimitService = transferLimitService;
+        this.properties = properties;
+    }
+
+    /**
+     * Places a hold on the sender account
+     * @param fromAccountId account the funds are reserved on
+     * @param toAccountId account the funds go to on capture
+     * @param amount amount to reserve
+     * @param currencyCode currency of the hold
+     * @param expiresInSeconds lifetime of the hold, the default lifetime when null
+     * @return authorized hold
+     */
+    public HoldResponse authorize(String fromAccountId, String toAccountId, double amount, String currencyCode,
+                                  Long expiresInSeconds) {
+        long amountMinorUnits = Money.toMinorUnits(amount);
+        if (amountMinorUnits <= 0) {
+            throw new AccountException(INVALID_HOLD_AMOUNT);
+        }
+        long lifetime = expiresInSeconds != null ? expiresInSeconds : properties.getDefaultExpirySeconds();
+        if (lifetime <= 0 || lifetime > properties.getMaxExpirySeconds()) {
+            throw new AccountException(INVALID_HOLD_EXPIRY);
+        }
+        Account fromAccount = accountStore.get(fromAccountId);
+        if (fromAccount == null) {
+            throw new AccountException(INVALID_SENDER_ACCOUNT_DETAILS);
+        }
+        if (accountStore.get(toAccountId) == null) {
+            throw new AccountException(INVALID_RECEIVER_ACCOUNT);
+        }
+
+        // velocity checks apply when the funds are committed, not again on capture;
+        // whatever is not captured is handed back when the hold closes
+        long reservedAt = transferLimitService.checkLimits(fromAccount.getAccountId(), amount);
+
+        Hold hold = new Hold();
+        hold.setHoldId(nextHoldId.incrementAndGet());
+        hold.setFromAccountId(fromAccountId);
+        hold.setToAccountId(toAccountId);
+        hold.setAmount(amount);
+        hold.setCurrency(currencyCode);
+        hold.setExpiresAt(new Date(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(lifetime)));
+        hold.setStatus(Hold.Status.AUTHORIZED);
+        hold.setLimitReservedAt(reservedAt);
+        synchronized (fromAccount) {
+            long available = Money.toMinorUnits(fromAccount.getBalanceAmount())
+                    - fromAccount.getHeldMinorUnits();
+            if (available < amountMinorUnits) {
+                transferLimitService.release(fromAccount.getAccountId(), amount, reservedAt);
+                throw new AccountException(INSUFFICIENT_ACCOUNT_BALANCE_IN_SENDER_ACCOUNT);
+            }
+            fromAccount.setHeldMinorUnits(fromAccount.getHeldMinorUnits() + amountMinorUnits);
+            holds.put(hold.getHoldId(), hold);
+            expiryIndex.add(hold);
+        }
+        return buildResponse(hold);
+    }
+
+    /**
+     * Captures a hold. The captured amount is transferred and whatever is
+     * left of the hold is released.
+     * @param holdId hold id
+     * @param amount amount to capture, the full hold amount when null
+     * @return captured hold and its transfer
+     */
+    public HoldResponse capture(long holdId, Double amount) {
+        Hold hold = activeHold(holdId);
+        Account fromAccount = accountStore.get(hold.getFromAccountId());
+        Account toAccount = accountStore.get(hold.getToAccountId());
+        double captured = amount != null ? amount : hold.getAmount();
+        long capturedMinorUnits = Money.toMinorUnits(captured);
+        if (capturedMinorUnits <= 0 || capturedMinorUnits > Money.toMinorUnits(hold.getAmount())) {
+            throw new AccountException(INVALID_CAPTURE_AMOUNT);
+        }
+
+        TransferCommand command = new TransferCommand();
+        command.setFromAccountId(hold.getFromAccountId());
+        command.setToAccountId(hold.getToAccountId());
+        command.setAmount(captured);
+        command.setCurrencyCode(hold.getCurrency());
+
+        // same lock order as transfers
+        Account first = hold.getFromAccountId().compareTo(hold.getToAccountId()) <= 0 ? fromAccount : toAccount;
+        Account second = first == fromAccount ? toAccount : fromAccount;
+        synchronized (first) {
+            synchronized (second) {
+                checkActive(hold, fromAccount);
+                release(hold, fromAccount);
+                try {
+                    accountService.post(command, fromAccount, toAccount);
+                } catch (RuntimeException e) {
+                    // the transfer did not happen, keep the funds reserved
+                    fromAccount.setHeldMinorUnits(fromAccount.getHeldMinorUnits()
+                            + Money.toMinorUnits(hold.getAmount()));
+                    throw e;
+                }
+                hold.setCapturedAmount(captured);
+                hold.setStatus(Hold.Status.CAPTURED);
+            }
+        }
+        if (capturedMinorUnits < Money.toMinorUnits(hold.getAmount())) {
+            transferLimitService.releaseAmount(fromAccount.getAccountId(), hold.getAmount() - captured,
+                    hold.getLimitReservedAt());
+        }
+        close(hold);
+
+        HoldResponse holdResponse = buildResponse(hold);
+        holdResponse.setTransfer(AccountService.buildRecord(command));
+        return holdResponse;
+    }
+
+    /**
+     * Voids a hold, releasing its funds
+     * @param holdId hold id
+     * @return voided hold
+     */
+    public HoldResponse voidHold(long holdId) {
+        Hold hold = activeHold(holdId);
+        Account fromAccount = accountStore.get(hold.getFromAccountId());
+        synchronized (fromAccount) {
+            checkActive(hold, fromAccount);
+            release(hold, fromAccount);
+            hold.setStatus(Hold.Status.VOIDED);
+        }
+        transferLimitService.release(fromAccount.getAccountId(), hold.getAmount(), hold.getLimitReservedAt());
+        close(hold);
+        return buildResponse(hold);
+    }
+
+    /**
+     * Releases the holds that have expired
+     */
+    @Scheduled(fixedDelayString = "${holds.expiry-sweep-millis:1000}")
+    public void expireHolds() {
+        int expired = expireHolds(System.currentTimeMillis());
+        if (expired > 0) {
+            logger.debug("Released {} expired holds", expired);
+        }
+    }
+
+    /**
+     * Releases the holds that expire at or before the given time
+     * @param nowMillis current time in epoch milliseconds
+     * @return number of holds released
+     */
+    public int expireHolds(long nowMillis) {
+        int expired = 0;
+        Iterator<Hold> due = expiryIndex.iterator();
+        while (due.hasNext()) {
+            Hold hold = due.next();
+            if (hold.getExpiresAt().getTime() > nowMillis) {
+                // the index is in expiry order, nothing after this is due
+                break;
+            }
+            Account fromAccount = accountStore.get(hold.getFromAccountId());
+            synchronized (fromAccount) {
+                if (hold.getStatus() == Hold.Status.AUTHORIZED) {
+                    expire(hold, fromAccount);
+                    expired++;
+                }
+            }
+            close(hold);
+        }
+        return expired;
+    }
+
+    /**
+     * @return number of holds not yet captured, voided or released on expiry
+     */
+    public int activeHoldCount() {
+        return holds.size();
+    }
+
+    private Hold activeHold(long holdId) {
+        Hold hold = holds.get(holdId);
+        if (hold == null) {
+            throw new AccountException(HOLD_NOT_FOUND);
+        }
+        return hold;
+    }
+
+    // caller holds the lock of the sender account
+    private void checkActive(Hold hold, Account fromAccount) {
+        if (hold.getStatus() != Hold.Status.AUTHORIZED) {
+            throw new AccountException(HOLD_NOT_FOUND);
+        }
+        if (hold.getExpiresAt().getTime() <= System.currentTimeMillis()) {
+            expire(hold, fromAccount);
+            close(hold);
+            throw new AccountException(HOLD_EXPIRED);
+        }
+    }
+
+    // caller holds the lock of the sender account
+    private void expire(Hold hold, Account fromAccount) {
+        release(hold, fromAccount);
+        hold.setStatus(Hold.Status.EXPIRED);
+        transferLimitService.release(fromAccount.getAccountId(), hold.getAmount(), hold.getLimitReservedAt());
+    }
+
+    // caller holds the lock of the sender account
+    private static void release(Hold hold, Account fromAccount) {
+        fromAccount.setHeldMinorUnits(fromAccount.getHeldMinorUnits() - Money.toMinorUnits(hold.getAmount()));
+    }
+
+    private void close(Hold hold) {
+        holds.remove(hold.getHoldId(), hold);
+        expiryIndex.remove(hold);
+    }
+
+    private static HoldResponse buildResponse(Hold hold) {
+        HoldResponse holdResponse = new HoldResponse();
+        holdResponse.setHold(hold);
+        holdResponse.setStatus(true);
+        return holdResponse;
+    }
+}
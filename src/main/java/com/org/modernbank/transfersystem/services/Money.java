@@ -0,0 +1,33 @@
+package com.org.modernbank.transfersystem.services;
+
+/**
+ * Conversion between amounts and whole minor units (pence, cents). Limits,
+ * holds, balances and reconciliation all compare money in minor units
+ * through these two methods, so they always round the same way.
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+final class Money {
+
+    private static final double MINOR_UNITS_PER_UNIT = 100;
+
+    private Money() {
+    }
+
+    /**
+     * @param amount amount in units
+     * @return amount in minor units, rounded to the nearest
+     */
+    static long toMinorUnits(double amount) {
+        return Math.round(amount * MINOR_UNITS_PER_UNIT);
+    }
+
+    /**
+     * @param minorUnits amount in minor units
+     * @return amount in units
+     */
+    static double fromMinorUnits(long minorUnits) {
+        return minorUnits / MINOR_UNITS_PER_UNIT;
+    }
+}
@@ -0,0 +1,420 @@
+package com.org.modernbank.transfersystem.services;
+
+import com.org.modernbank.transfersystem.domain.Account;
+import com.org.modernbank.transfersystem.domain.ReconciliationReport;
+import com.org.modernbank.transfersystem.domain.TransactionHistory;
+import com.org.modernbank.transfersystem.ledger.TransferSequence;
+import com.org.modernbank.transfersystem.repository.AccountStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Reconciles account balances against their transaction history and checks
+ * that every DEBIT leg has its matching CREDIT leg, while transfers keep running.
+ *
+ * Accounts are scanned in parallel on the fork/join pool, one shard of
+ * accounts per leaf, each account under its own lock. The first pass checks
+ * every balance against its opening balance and legs, and nets a fingerprint
+ * of every leg into a hash bucket of its account pair, so matched legs cancel
+ * out without being kept in memory. Only when some bucket does not net to
+ * zero does a second pass collect the account pairs of those buckets to
+ * report the orphaned legs.
+ *
+ * Only one reconciliation runs at a time, callers arriving while one is in
+ * progress wait for it and share its report.
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Service
+public class ReconciliationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReconciliationService.class);
+
+    private static final int SHARD_SIZE = 1_024;
+    private static final int BUCKETS = 1 << 16;
+    private static final int MAX_REPORTED = 1_000;
+
+    private final AccountStore accountStore;
+    private final TransferSequence transferSequence;
+    private final AtomicReference<CompletableFuture<ReconciliationReport>> inProgress = new AtomicReference<>();
+
+    public ReconciliationService(AccountStore accountStore, TransferSequence transferSequence) {
+        this.accountStore = accountStore;
+        this.transferSequence = transferSequence;
+    }
+
+    /**
+     * Runs the end of day reconciliation and logs its outcome
+     */
+    @Scheduled(cron = "${reconciliation.cron:0 0 0 * * *}")
+    public void reconcileEndOfDay() {
+        ReconciliationReport report = reconcile();
+        if (report.getDriftedAccountCount() > 0 || report.getOrphanedLegCount() > 0) {
+            logger.warn("Reconciliation found {} drifted accounts and {} orphaned legs",
+                    report.getDriftedAccountCount(), report.getOrphanedLegCount());
+        } else {
+            logger.info("Reconciliation of {} accounts and {} transactions completed in {} ms",
+                    report.getAccountsScanned(), report.getTransactionsScanned(), report.getDurationMillis());
+        }
+    }
+
+    /**
+     * Reconciles all accounts in the system, or joins the reconciliation already in progress
+     * @return reconciliation report
+     */
+    public ReconciliationReport reconcile() {
+        CompletableFuture<ReconciliationReport> run = new CompletableFuture<>();
+        while (!inProgress.compareAndSet(null, run)) {
+            CompletableFuture<ReconciliationReport> running = inProgress.get();
+            if (running != null) {
+                return join(running);
+            }
+        }
+        try {
+            ReconciliationReport report = runReconciliation();
+            run.complete(report);
+            return report;
+        } catch (RuntimeException | Error e) {
+            run.completeExceptionally(e);
+            throw e;
+        } finally {
+            inProgress.set(null);
+        }
+    }
+
+    private static ReconciliationReport join(CompletableFuture<ReconciliationReport> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private ReconciliationReport runReconciliation() {
+        long started = System.currentTimeMillis();
+        // A transfer holds both account locks while it takes its sequence number and appends
+        // its legs, and every account is scanned under its lock after this point, so legs up to
+        // the cutoff sequence are visible on both sides. Newer legs are still checked against
+        // their balance.
+        long cutoff = transferSequence.current();
+        Account[] accounts = accountStore.findAll().toArray(new Account[0]);
+
+        AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        ScanResult scanResult = ForkJoinPool.commonPool()
+                .invoke(new ScanTask(accounts, 0, accounts.length, cutoff, buckets));
+
+        ReconciliationReport report = new ReconciliationReport();
+        report.setCutoffSequence(cutoff);
+        report.setAccountsScanned(scanResult.accounts);
+        report.setTransactionsScanned(scanResult.transactions);
+        report.setDriftedAccountCount(scanResult.driftedAccountCount);
+        report.setDriftedAccounts(scanResult.driftedAccounts);
+        for (Map.Entry<String, long[]> entry : scanResult.currencies.entrySet()) {
+            long[] totals = entry.getValue();
+            ReconciliationReport.CurrencyTotal currencyTotal = new ReconciliationReport.CurrencyTotal();
+            currencyTotal.setCurrency(entry.getKey());
+            currencyTotal.setAccountCount(totals[0]);
+            currencyTotal.setTotalBalance(Money.fromMinorUnits(totals[1]));
+            currencyTotal.setLedgerBalance(Money.fromMinorUnits(totals[2]));
+            currencyTotal.setDrift(Money.fromMinorUnits(totals[1] - totals[2]));
+            report.getCurrencyTotals().add(currencyTotal);
+        }
+
+        boolean[] dirtyBuckets = new boolean[BUCKETS];
+        boolean dirty = false;
+        for (int i = 0; i < BUCKETS; i++) {
+            dirtyBuckets[i] = buckets.get(i) != 0;
+            dirty |= dirtyBuckets[i];
+        }
+        if (dirty) {
+            reportOrphanedLegs(accounts, cutoff, dirtyBuckets, report);
+        }
+
+        report.setDurationMillis(System.currentTimeMillis() - started);
+        return report;
+    }
+
+    /**
+     * Second pass, collects the account pairs of the buckets that did not net to zero
+     */
+    private void reportOrphanedLegs(Account[] accounts, long cutoff, boolean[] dirtyBuckets,
+                                    ReconciliationReport report) {
+        ConcurrentHashMap<LegPair, LegTotals> pairs = new ConcurrentHashMap<>();
+        ForkJoinPool.commonPool().invoke(new PairTask(accounts, 0, accounts.length, cutoff, dirtyBuckets, pairs));
+
+        for (Map.Entry<LegPair, LegTotals> entry : pairs.entrySet()) {
+            LegTotals totals = entry.getValue();
+            if (totals.debitCount == totals.creditCount && totals.debitAmount == totals.creditAmount) {
+                continue;
+            }
+            report.setOrphanedLegCount(report.getOrphanedLegCount() + Math.abs(totals.debitCount - totals.creditCount));
+            if (report.getOrphanedLegs().size() < MAX_REPORTED) {
+                ReconciliationReport.OrphanedLeg orphanedLeg = new ReconciliationReport.OrphanedLeg();
+                orphanedLeg.setDebitAccountId(entry.getKey().debitAccountId);
+                orphanedLeg.setCreditAccountId(entry.getKey().creditAccountId);
+                orphanedLeg.setDebitCount(totals.debitCount);
+                orphanedLeg.setCreditCount(totals.creditCount);
+                orphanedLeg.setDebitAmount(Money.fromMinorUnits(totals.debitAmount));
+                orphanedLeg.setCreditAmount(Money.fromMinorUnits(totals.creditAmount));
+                report.getOrphanedLegs().add(orphanedLeg);
+            }
+        }
+    }
+
+    private static long pairKey(String debitAccountId, String creditAccountId) {
+        return ((long) debitAccountId.hashCode() << 32) | (creditAccountId.hashCode() & 0xFFFFFFFFL);
+    }
+
+    private static int bucket(long pairKey) {
+        return (int) mix(pairKey) & (BUCKETS - 1);
+    }
+
+    // both legs of a transfer produce the same fingerprint, added for the debit and subtracted for the credit
+    private static long fingerprint(long pairKey, long transferId, long amount) {
+        return mix((pairKey ^ mix(transferId)) * 0x9E3779B97F4A7C15L + amount);
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+        value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return value ^ (value >>> 33);
+    }
+
+    /**
+     * Totals of one shard of accounts, amounts in minor units
+     */
+    private static final class ScanResult {
+
+        private long accounts;
+        private long transactions;
+        // currency -> account count, balance total, ledger total
+        private final Map<String, long[]> currencies = new HashMap<>();
+        private long driftedAccountCount;
+        private List<ReconciliationReport.AccountDrift> driftedAccounts = new ArrayList<>();
+
+        private ScanResult merge(ScanResult other) {
+            accounts += other.accounts;
+            transactions += other.transactions;
+            for (Map.Entry<String, long[]> entry : other.currencies.entrySet()) {
+                long[] totals = currencies.computeIfAbsent(entry.getKey(), currency -> new long[3]);
+                for (int i = 0; i < totals.length; i++) {
+                    totals[i] += entry.getValue()[i];
+                }
+            }
+            driftedAccountCount += other.driftedAccountCount;
+            for (ReconciliationReport.AccountDrift drift : other.driftedAccounts) {
+                if (driftedAccounts.size() >= MAX_REPORTED) {
+                    break;
+                }
+                driftedAccounts.add(drift);
+            }
+            return this;
+        }
+    }
+
+    /**
+     * First pass over a shard of accounts
+     */
+    private final class ScanTask extends RecursiveTask<ScanResult> {
+
+        private final Account[] accounts;
+        private final int from;
+        private final int to;
+        private final long cutoff;
+        private final AtomicLongArray buckets;
+
+        private ScanTask(Account[] accounts, int from, int to, long cutoff, AtomicLongArray buckets) {
+            this.accounts = accounts;
+            this.from = from;
+            this.to = to;
+            this.cutoff = cutoff;
+            this.buckets = buckets;
+        }
+
+        @Override
+        protected ScanResult compute() {
+            if (to - from > SHARD_SIZE) {
+                int middle = (from + to) >>> 1;
+                ScanTask left = new ScanTask(accounts, from, middle, cutoff, buckets);
+                left.fork();
+                ScanResult right = new ScanTask(accounts, middle, to, cutoff, buckets).compute();
+                return left.join().merge(right);
+            }
+            ScanResult result = new ScanResult();
+            TransactionHistory scratch = new TransactionHistory();
+            for (int i = from; i < to; i++) {
+                scan(accounts[i], result, scratch);
+            }
+            return result;
+        }
+
+        private void scan(Account account, ScanResult result, TransactionHistory scratch) {
+            String accountId = account.getAccountId();
+            long balance;
+            long ledger;
+            int transactions;
+            synchronized (account) {
+                balance = Money.toMinorUnits(account.getBalanceAmount());
+                ledger = Money.toMinorUnits(account.getOpeningBalance());
+                TransactionHistory history = accountStore.readHistory(account, scratch);
+                transactions = history.size();
+                for (int i = 0; i < transactions; i++) {
+                    long amount = Money.toMinorUnits(history.getAmount(i));
+                    boolean debit = history.isDebit(i);
+                    ledger += debit ? -amount : amount;
+                    long transferId = history.getTransferId(i);
+                    if (transferId <= cutoff) {
+                        String counterparty = history.getCounterparty(i);
+                        long pairKey = debit ? pairKey(accountId, counterparty) : pairKey(counterparty, accountId);
+                        long fingerprint = fingerprint(pairKey, transferId, amount);
+                        buckets.getAndAdd(bucket(pairKey), debit ? fingerprint : -fingerprint);
+                    }
+                }
+            }
+
+            result.accounts++;
+            result.transactions += transactions;
+            long[] totals = result.currencies.computeIfAbsent(account.getCurrencyCode(), currency -> new long[3]);
+            totals[0]++;
+            totals[1] += balance;
+            totals[2] += ledger;
+            if (balance != ledger) {
+                result.driftedAccountCount++;
+                if (result.driftedAccounts.size() < MAX_REPORTED) {
+                    ReconciliationReport.AccountDrift drift = new ReconciliationReport.AccountDrift();
+                    drift.setAccountId(accountId);
+                    drift.setCurrency(account.getCurrencyCode());
+                    drift.setBalance(Money.fromMinorUnits(balance));
+                    drift.setLedgerBalance(Money.fromMinorUnits(ledger));
+                    drift.setDrift(Money.fromMinorUnits(balance - ledger));
+                    result.driftedAccounts.add(drift);
+                }
+            }
+        }
+    }
+
+    /**
+     * Second pass over a shard of accounts, only legs in dirty buckets are collected
+     */
+    private final class PairTask extends RecursiveAction {
+
+        private final Account[] accounts;
+        private final int from;
+        private final int to;
+        private final long cutoff;
+        private final boolean[] dirtyBuckets;
+        private final ConcurrentHashMap<LegPair, LegTotals> pairs;
+
+        private PairTask(Account[] accounts, int from, int to, long cutoff, boolean[] dirtyBuckets,
+                         ConcurrentHashMap<LegPair, LegTotals> pairs) {
+            this.accounts = accounts;
+            this.from = from;
+            this.to = to;
+            this.cutoff = cutoff;
+            this.dirtyBuckets = dirtyBuckets;
+            this.pairs = pairs;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SHARD_SIZE) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new PairTask(accounts, from, middle, cutoff, dirtyBuckets, pairs),
+                        new PairTask(accounts, middle, to, cutoff, dirtyBuckets, pairs));
+                return;
+            }
+            TransactionHistory scratch = new TransactionHistory();
+            for (int i = from; i < to; i++) {
+                Account account = accounts[i];
+                synchronized (account) {
+                    TransactionHistory history = accountStore.readHistory(account, scratch);
+                    for (int index = 0; index < history.size(); index++) {
+                        collect(account.getAccountId(), history, index);
+                    }
+                }
+            }
+        }
+
+        private void collect(String accountId, TransactionHistory history, int index) {
+            if (history.getTransferId(index) > cutoff) {
+                return;
+            }
+            boolean debit = history.isDebit(index);
+            String debitAccountId = debit ? accountId : history.getCounterparty(index);
+            String creditAccountId = debit ? history.getCounterparty(index) : accountId;
+            if (!dirtyBuckets[bucket(pairKey(debitAccountId, creditAccountId))]) {
+                return;
+            }
+            pairs.computeIfAbsent(new LegPair(debitAccountId, creditAccountId), pair -> new LegTotals())
+                    .add(debit, Money.toMinorUnits(history.getAmount(index)));
+        }
+    }
+
+    /**
+     * Direction of a transfer between two accounts
+     */
+    private static final class LegPair {
+
+        private final String debitAccountId;
+        private final String creditAccountId;
+
+        private LegPair(String debitAccountId, String creditAccountId) {
+            this.debitAccountId = debitAccountId;
+            this.creditAccountId = creditAccountId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof LegPair)) {
+                return false;
+            }
+            LegPair other = (LegPair) o;
+            return debitAccountId.equals(other.debitAccountId) && creditAccountId.equals(other.creditAccountId);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * debitAccountId.hashCode() + creditAccountId.hashCode();
+        }
+    }
+
+    /**
+     * Legs seen on each side of an account pair
+     */
+    private static final class LegTotals {
+
+        private long debitCount;
+        private long debitAmount;
+        private long creditCount;
+        private long creditAmount;
+
+        private synchronized void add(boolean debit, long amount) {
+            if (debit) {
+                debitCount++;
+                debitAmount += amount;
+            } else {
+                creditCount++;
+                creditAmount += amount;
+            }
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.org.modernbank.transfersystem.services;
+
+import com.org.modernbank.transfersystem.config.TransferLimitProperties;
+import com.org.modernbank.transfersystem.exceptions.LimitExceededException;
+import com.org.modernbank.transfersystem.ratelimit.SlidingWindowCounter;
+import com.org.modernbank.transfersystem.ratelimit.TokenBucket;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import static com.org.modernbank.transfersystem.constants.ErrorMessageConstants.*;
+
+/**
+ * Velocity checks for outgoing transfers. Every sending account gets a
+ * token bucket for its transfer rate and a sliding window for the amount
+ * sent, both created on the first transfer and updated without locks.
+ * A check reserves quota which is handed back when the transfer does not
+ * go through, and limiters that have gone back to their initial state are
+ * evicted so the map only holds recently active senders. Limits of an
+ * account can be overridden in the properties, or at runtime while the
+ * account is in use.
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Service
+public class TransferLimitService {
+
+    private final TransferLimitProperties properties;
+
+    private final ConcurrentMap<String, AccountLimiter> limiters = new ConcurrentHashMap<>();
+
+    // set at runtime, these take precedence over the overrides in the properties
+    private final ConcurrentMap<String, TransferLimitProperties.Limit> runtimeOverrides = new ConcurrentHashMap<>();
+
+    public TransferLimitService(TransferLimitProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Checks and reserves a transfer against the sender's limits. A transfer
+     * that does not go through hands the reservation back with {@link #release}.
+     * @param accountId debit account id
+     * @param amount amount to be transferred
+     * @return reservation time to pass to {@link #release}
+     */
+    public long checkLimits(String accountId, double amount) {
+        long now = System.nanoTime();
+        if (!properties.isEnabled()) {
+            return now;
+        }
+        long minorUnits = Money.toMinorUnits(amount);
+        for (;;) {
+            AccountLimiter limiter = limiters.get(accountId);
+            if (limiter == null) {
+                limiter = limiters.computeIfAbsent(accountId, id -> createLimiter(id, now));
+            }
+            boolean rateAllowed = limiter.rate == null || limiter.rate.tryAcquire(now);
+            boolean amountAllowed = rateAllowed
+                    && (limiter.amount == null || limiter.amount.tryAdd(minorUnits, now));
+            if (rateAllowed && !amountAllowed && limiter.rate != null) {
+                limiter.rate.release(now);
+            }
+            if (limiter.retired) {
+                // evicted while we were updating it, retry on the limiter that replaces it
+                if (amountAllowed) {
+                    limiter.release(minorUnits, now);
+                }
+                continue;
+            }
+            if (!rateAllowed) {
+                throw new LimitExceededException(TRANSFER_RATE_LIMIT_EXCEEDED);
+            }
+            if (!amountAllowed) {
+                throw new LimitExceededException(TRANSFER_AMOUNT_LIMIT_EXCEEDED);
+            }
+            return now;
+        }
+    }
+
+    /**
+     * Hands back a reservation made by {@link #checkLimits} for a transfer
+     * that did not go through
+     * @param accountId debit account id
+     * @param amount amount that was reserved
+     * @param reservedAtNanos time returned by {@link #checkLimits}
+     */
+    public void release(String accountId, double amount, long reservedAtNanos) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        AccountLimiter limiter = limiters.get(accountId);
+        if (limiter != null) {
+            limiter.release(Money.toMinorUnits(amount), reservedAtNanos);
+        }
+    }
+
+    /**
+     * Hands back part of the amount reserved by {@link #checkLimits} for a
+     * transfer that went through for less, keeping the transfer's rate permit
+     * @param accountId debit account id
+     * @param amount amount that was not transferred
+     * @param reservedAtNanos time returned by {@link #checkLimits}
+     */
+    public void releaseAmount(String accountId, double amount, long reservedAtNanos) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        AccountLimiter limiter = limiters.get(accountId);
+        if (limiter != null && limiter.amount != null) {
+            limiter.amount.release(Money.toMinorUnits(amount), reservedAtNanos);
+        }
+    }
+
+    /**
+     * Evicts the limiters that are back at their initial state
+     */
+    @Scheduled(fixedDelayString = "${transfer.limits.idle-sweep-millis:60000}")
+    public void evictIdleLimiters() {
+        evictIdle(System.nanoTime());
+    }
+
+    /**
+     * Evicts the limiters with a full token bucket and an empty window,
+     * which a new limiter would reproduce exactly
+     * @param nowNanos current {@link System#nanoTime()} reading
+     * @return number of limiters evicted
+     */
+    public int evictIdle(long nowNanos) {
+        int evicted = 0;
+        for (Map.Entry<String, AccountLimiter> entry : limiters.entrySet()) {
+            AccountLimiter limiter = entry.getValue();
+            if (!limiter.isIdle(nowNanos)) {
+                continue;
+            }
+            // a check that slipped in before the flag was set shows up in the second look
+            limiter.retired = true;
+            if (limiter.isIdle(nowNanos)) {
+                limiters.remove(entry.getKey(), limiter);
+                evicted++;
+            } else {
+                limiter.retired = false;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Overrides the limits of an account until {@link #clearOverride} is
+     * called. Must be set before the account's first transfer, a limiter
+     * that already exists keeps its limits
+     * @param accountId account id
+     * @param limit limits of the account, unset values fall back to the defaults
+     */
+    public void setOverride(String accountId, TransferLimitProperties.Limit limit) {
+        runtimeOverrides.put(accountId, limit);
+    }
+
+    /**
+     * Removes a runtime override and the limiter built with it, the next
+     * transfer of the account gets a limiter with its configured limits
+     * @param accountId account id
+     */
+    public void clearOverride(String accountId) {
+        runtimeOverrides.remove(accountId);
+        AccountLimiter limiter = limiters.remove(accountId);
+        if (limiter != null) {
+            // checks still holding it start over on a new limiter
+            limiter.retired = true;
+        }
+    }
+
+    /**
+     * @return number of accounts with limiter state
+     */
+    public int limiterCount() {
+        return limiters.size();
+    }
+
+    private AccountLimiter createLimiter(String accountId, long now) {
+        double maxTransfersPerSecond = properties.getMaxTransfersPerSecond();
+        double maxAmountPerWindow = properties.getMaxAmountPerWindow();
+        TransferLimitProperties.Limit override = runtimeOverrides.get(accountId);
+        if (override == null) {
+            override = properties.getOverrides().get(accountId);
+        }
+        if (override != null) {
+            if (override.getMaxTransfersPerSecond() != null) {
+                maxTransfersPerSecond = override.getMaxTransfersPerSecond();
+            }
+            if (override.getMaxAmountPerWindow() != null) {
+                maxAmountPerWindow = override.getMaxAmountPerWindow();
+            }
+        }
+
+        TokenBucket rate = null;
+        if (maxTransfersPerSecond > 0) {
+            int burst = (int) Math.max(1, Math.ceil(maxTransfersPerSecond));
+            rate = new TokenBucket(maxTransfersPerSecond, burst, now);
+        }
+        SlidingWindowCounter window = null;
+        if (maxAmountPerWindow > 0) {
+            window = new SlidingWindowCounter(Money.toMinorUnits(maxAmountPerWindow),
+                    TimeUnit.SECONDS.toNanos(properties.getWindowSeconds()), properties.getWindowSlots());
+        }
+        return new AccountLimiter(rate, window);
+    }
+
+    /**
+     * Limiter state of a single account
+     */
+    private static final class AccountLimiter {
+
+        private final TokenBucket rate;
+        private final SlidingWindowCounter amount;
+
+        // set while the limiter is being evicted, checks seeing it start over
+        private volatile boolean retired;
+
+        private AccountLimiter(TokenBucket rate, SlidingWindowCounter amount) {
+            this.rate = rate;
+            this.amount = amount;
+        }
+
+        private void release(long minorUnits, long reservedAtNanos) {
+            if (amount != null) {
+                amount.release(minorUnits, reservedAtNanos);
+            }
+            if (rate != null) {
+                rate.release(System.nanoTime());
+            }
+        }
+
+        private boolean isIdle(long nowNanos) {
+            return (rate == null || rate.isFull(nowNanos)) && (amount == null || amount.isEmpty(nowNanos));
+        }
+    }
+}
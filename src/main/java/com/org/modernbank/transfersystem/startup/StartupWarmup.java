@@ -0,0 +1,206 @@
+package com.org.modernbank.transfersystem.startup;
+
+import com.org.modernbank.transfersystem.config.TransferLimitProperties;
+import com.org.modernbank.transfersystem.config.WarmupProperties;
+import com.org.modernbank.transfersystem.domain.Account;
+import com.org.modernbank.transfersystem.domain.TransferRequest;
+import com.org.modernbank.transfersystem.repository.AccountStore;
+import com.org.modernbank.transfersystem.services.TransferLimitService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.org.modernbank.transfersystem.constants.EndPointConstants.*;
+
+/**
+ * Warms the request paths up before the application reports ready.
+ *
+ * The first requests after a start pay for lazy initialisation in the web
+ * stack and Jackson, and run interpreted until the JIT has compiled the hot
+ * paths, which shows as latency many times the steady state. This runner
+ * sends transfer, balance and mini statement requests, and a few failing
+ * ones for the error handling, through the embedded server to synthetic
+ * accounts. Spring Boot only moves the readiness state to accepting traffic
+ * once application runners have finished, so a load balancer watching the
+ * readiness probe sends no traffic until the warm-up is over.
+ *
+ * The synthetic accounts are created directly in the store and their
+ * transfers take the same path as any other: they are checked against
+ * limits, published as events and numbered from the ledger sequence, so the
+ * warm-up leaves gaps in the transfer ids seen afterwards. Each account gets
+ * a runtime limit override no warm-up can reach, which is dropped with its
+ * limiter at the end. The accounts are removed with their history once
+ * every request has been answered; a request the server is still working on
+ * when the warm-up gives up finds the accounts removed and is refused.
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@Component
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupWarmup.class);
+
+    static final String ACCOUNT_PREFIX = "WARMUP-";
+    private static final double OPENING_BALANCE = 1_000_000;
+    private static final double TRANSFER_AMOUNT = 0.01;
+    // a failing transfer and an unknown account every so many rounds
+    private static final int FAILURE_EVERY = 50;
+    private static final TransferLimitProperties.Limit WARMUP_LIMIT = new TransferLimitProperties.Limit();
+
+    static {
+        WARMUP_LIMIT.setMaxTransfersPerSecond(1_000_000d);
+        WARMUP_LIMIT.setMaxAmountPerWindow(1_000_000_000d);
+    }
+
+    private final AccountStore accountStore;
+    private final TransferLimitService transferLimitService;
+    private final WarmupProperties properties;
+    private final Environment environment;
+    private final ConfigurableApplicationContext context;
+
+    private final AtomicLong requests = new AtomicLong();
+
+    public StartupWarmup(AccountStore accountStore, TransferLimitService transferLimitService,
+                         WarmupProperties properties, Environment environment,
+                         ConfigurableApplicationContext context) {
+        this.accountStore = accountStore;
+        this.transferLimitService = transferLimitService;
+        this.properties = properties;
+        this.environment = environment;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        String port = environment.getProperty("local.server.port");
+        if (properties.isEnabled() && port != null) {
+            warmUp("http://localhost:" + port + ACCOUNTS);
+        }
+        if (properties.isExitAfterWarmup()) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+
+    /**
+     * @return requests sent by the last warm-up
+     */
+    public long requestCount() {
+        return requests.get();
+    }
+
+    private void warmUp(String baseUrl) throws InterruptedException {
+        long started = System.nanoTime();
+        long deadline = started + TimeUnit.SECONDS.toNanos(properties.getTimeoutSeconds());
+        List<Account> accounts = createAccounts();
+        // requests time out, so the client threads finish within the wait for them below
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        int timeoutMillis = (int) TimeUnit.SECONDS.toMillis(properties.getTimeoutSeconds());
+        requestFactory.setConnectTimeout(timeoutMillis);
+        requestFactory.setReadTimeout(timeoutMillis);
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getThreads());
+        requests.set(0);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < properties.getThreads(); thread++) {
+                int offset = thread;
+                futures.add(executor.submit(() -> sendRounds(restTemplate, baseUrl, offset, deadline)));
+            }
+            for (Future<?> future : futures) {
+                future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+        } catch (TimeoutException e) {
+            logger.warn("Warm-up did not finish in {} s, continuing with a partial warm-up",
+                    properties.getTimeoutSeconds());
+        } catch (Exception e) {
+            logger.warn("Warm-up failed, continuing without it", e);
+        } finally {
+            executor.shutdownNow();
+            // wait for the answers to requests already sent before removing their accounts
+            if (!executor.awaitTermination(properties.getTimeoutSeconds(), TimeUnit.SECONDS)) {
+                logger.warn("Warm-up requests still outstanding, removing the synthetic accounts anyway");
+            }
+            for (Account account : accounts) {
+                accountStore.remove(account);
+                transferLimitService.clearOverride(account.getAccountId());
+            }
+        }
+        logger.info("Warm-up sent {} requests in {} ms", requests.get(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private List<Account> createAccounts() {
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < properties.getAccounts(); i++) {
+            Account account = new Account();
+            account.setAccountId(ACCOUNT_PREFIX + i);
+            account.setCurrencyCode("GBP");
+            account.setBalanceAmount(OPENING_BALANCE);
+            account.setOpeningBalance(OPENING_BALANCE);
+            // an account of that id that already exists is left alone
+            if (accountStore.addIfAbsent(account)) {
+                transferLimitService.setOverride(account.getAccountId(), WARMUP_LIMIT);
+                accounts.add(account);
+            }
+        }
+        return accounts;
+    }
+
+    // each thread works through its share of the rounds, starting on its own account
+    private void sendRounds(RestTemplate restTemplate, String baseUrl, int offset, long deadline) {
+        int count = properties.getAccounts();
+        for (int round = offset; round < properties.getIterations(); round += properties.getThreads()) {
+            if (Thread.currentThread().isInterrupted() || System.nanoTime() > deadline) {
+                return;
+            }
+            String from = ACCOUNT_PREFIX + round % count;
+            String to = ACCOUNT_PREFIX + (round + 1) % count;
+            send(() -> restTemplate.postForObject(baseUrl + TRANSFER, transferRequest(from, to, TRANSFER_AMOUNT),
+                    String.class));
+            send(() -> restTemplate.getForObject(baseUrl + BALANCE, String.class, from));
+            send(() -> restTemplate.getForObject(baseUrl + MINI_STATEMENT, String.class, to));
+            if (round % FAILURE_EVERY == 0) {
+                send(() -> restTemplate.postForObject(baseUrl + TRANSFER,
+                        transferRequest(from, to, OPENING_BALANCE * 2), String.class));
+                send(() -> restTemplate.getForObject(baseUrl + BALANCE, String.class,
+                        ACCOUNT_PREFIX + "UNKNOWN"));
+            }
+        }
+    }
+
+    // error responses are part of the warm-up too, only the server side is of interest
+    private void send(Runnable request) {
+        try {
+            request.run();
+        } catch (RuntimeException e) {
+            logger.trace("Warm-up request failed", e);
+        }
+        requests.incrementAndGet();
+    }
+
+    private static TransferRequest transferRequest(String from, String to, double amount) {
+        TransferRequest transferRequest = new TransferRequest();
+        transferRequest.setFromAccountId(from);
+        transferRequest.setToAccountId(to);
+        transferRequest.setAmount(amount);
+        transferRequest.setCurrencyCode("GBP");
+        return transferRequest;
+    }
+}
@@ -1,6 +1,9 @@
 package com.org.modernbank.transfersystem;
 
 import com.org.modernbank.transfersystem.domain.*;
+import com.org.modernbank.transfersystem.ledger.TransferSequence;
+import com.org.modernbank.transfersystem.repository.AccountStore;
+import com.org.modernbank.transfersystem.startup.StartupWarmup;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.slf4j.Logger;
@@ -10,7 +13,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
 import java.util.Optional;
@@ -26,7 +31,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  * @version 1.0
  * @since 12-11-2022
  */
-@SpringBootTest(classes = TransferSystem.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@SpringBootTest(classes = TransferSystem.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "startup.warmup.iterations=200")
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 class TransferSystemTest {
 
@@ -38,6 +44,15 @@ class TransferSystemTest {
     @Autowired
     private TestRestTemplate testRestTemplate;
 
+    @Autowired
+    private StartupWarmup startupWarmup;
+
+    @Autowired
+    private AccountStore accountStore;
+
+    @Autowired
+    private TransferSequence transferSequence;
+
     /**
      * Acceptance Criteria 1
      * Given valid account details and positive funds available
@@ -219,6 +234,47 @@ class TransferSystemTest {
 
     }
 
+    /**
+     * Given valid account details
+     * When amounts are transferred between the accounts
+     * Then both legs of a transfer share its sequence number
+     * And the mini statement is ordered newest transfer first
+     */
+    @Test
+    void testTransferLegsShareSequenceNumber(){
+        // Given valid account details
+        createAccount("901", "GBP", 50);
+        createAccount("902", "GBP", 50);
+
+        // When amounts are transferred between the accounts
+        createTransactions("902", "901", 3);
+        TransferRequest transferRequest = new TransferRequest();
+        transferRequest.setFromAccountId("901");
+        transferRequest.setToAccountId("902");
+        transferRequest.setAmount(5);
+        transferRequest.setCurrencyCode("GBP");
+        TransferResponse transferStatus = this.testRestTemplate
+                .postForObject("http://localhost:" + port + "/accounts/transfer",
+                        new HttpEntity<>(transferRequest), TransferResponse.class);
+        long sequence = transferStatus.getTransfer().getSequence();
+
+        // Then both legs of a transfer share its sequence number
+        TransactionResponse debits = this.testRestTemplate
+                .getForObject("http://localhost:" + port + "/accounts/901/statements/mini",
+                        TransactionResponse.class);
+        TransactionResponse credits = this.testRestTemplate
+                .getForObject("http://localhost:" + port + "/accounts/902/statements/mini",
+                        TransactionResponse.class);
+        assertEquals(sequence, debits.getTransactions().get(0).getTransferId());
+        assertEquals("DEBIT", debits.getTransactions().get(0).getType());
+        assertEquals(sequence, credits.getTransactions().get(0).getTransferId());
+        assertEquals("CREDIT", credits.getTransactions().get(0).getType());
+
+        // And the mini statement is ordered newest transfer first
+        assertEquals(2, debits.getTransactions().size());
+        assertTrue(debits.getTransactions().get(0).getTransferId() > debits.getTransactions().get(1).getTransferId());
+    }
+
     /**
      * Acceptance Criteria : 6
      * Given invalid account details
@@ -301,6 +357,156 @@ class TransferSystemTest {
         assertEquals(ACCOUNT_ALREADY_EXISTS_IN_THE_SYSTEM, responseEntity.getBody());
     }
 
+    /**
+     * Given account details without an account id or with a lower case currency
+     * When trying to create the accounts
+     * Then both are rejected as bad requests, as the bulk import rejects them
+     */
+    @Test
+    void testInvalidAccountCreation(){
+        // Given account details without an account id
+        Account account = new Account();
+        account.setCurrencyCode("GBP");
+        account.setBalanceAmount(10);
+
+        // When trying to create the account
+        ResponseEntity<String> responseEntity = this.testRestTemplate.postForEntity(
+                "http://localhost:" + port + "/accounts/createAccount", new HttpEntity<>(account), String.class);
+
+        // Then the account is rejected
+        assertEquals(HttpStatus.BAD_REQUEST, responseEntity.getStatusCode());
+        assertEquals(INVALID_ACCOUNT_ID, responseEntity.getBody());
+
+        account.setAccountId("556");
+        account.setCurrencyCode("gbp");
+        responseEntity = this.testRestTemplate.postForEntity(
+                "http://localhost:" + port + "/accounts/createAccount", new HttpEntity<>(account), String.class);
+        assertEquals(HttpStatus.BAD_REQUEST, responseEntity.getStatusCode());
+        assertEquals(INVALID_CURRENCY_CODE, responseEntity.getBody());
+    }
+
+    /**
+     * Given a CSV upload with valid, duplicate and invalid records
+     * When the accounts are imported in bulk
+     * Then the valid accounts are created and the rest are reported
+     */
+    @Test
+    void testBulkAccountImport(){
+        // Given a CSV upload with valid, duplicate and invalid records
+        String csv = "accountId,balanceAmount,currencyCode\n"
+                + "1001,50,GBP\n"
+                + "1002,75.5,GBP\n"
+                + "1001,10,GBP\n"
+                + "1003,abc,GBP\n";
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.valueOf("text/csv"));
+
+        // When the accounts are imported in bulk
+        ImportResponse importResponse = this.testRestTemplate
+                .postForObject("http://localhost:" + port + "/accounts/import",
+                        new HttpEntity<>(csv, headers), ImportResponse.class);
+
+        // Then the valid accounts are created and the rest are reported
+        assertEquals(2, importResponse.getImportedCount());
+        assertEquals(2, importResponse.getRejectedCount());
+        assertEquals(4, importResponse.getErrors().get(0).getLineNumber());
+        assertEquals(ACCOUNT_ALREADY_EXISTS_IN_THE_SYSTEM, importResponse.getErrors().get(0).getReason());
+        assertEquals(5, importResponse.getErrors().get(1).getLineNumber());
+        assertEquals(INVALID_ACCOUNT_RECORD, importResponse.getErrors().get(1).getReason());
+
+        BalanceResponse balanceResponse = this.testRestTemplate
+                .getForObject("http://localhost:" + port + "/accounts/1002/balance",
+                        BalanceResponse.class);
+        assertEquals(75.5, balanceResponse.getBalance());
+    }
+
+    /**
+     * Given accounts with transfers between them
+     * When reconciliation runs
+     * Then balances match their transactions and every debit has its credit
+     */
+    @Test
+    void testReconciliation(){
+        // Given accounts with transfers between them
+        createAccount("881", "GBP", 50);
+        createAccount("882", "GBP", 50);
+        createTransactions("881", "882", 20);
+        createTransactions("882", "881", 5);
+
+        // When reconciliation runs
+        ReconciliationReport report = this.testRestTemplate
+                .postForObject("http://localhost:" + port + "/accounts/reconciliation", null,
+                        ReconciliationReport.class);
+
+        // Then balances match their transactions and every debit has its credit
+        assertTrue(report.getAccountsScanned() >= 2);
+        assertEquals(0, report.getDriftedAccountCount());
+        assertEquals(0, report.getOrphanedLegCount());
+    }
+
+    /**
+     * Acceptance Criteria for holds
+     * Given a hold on a card account
+     * When the merchant captures part of it
+     * Then the captured amount is transferred and the rest is available again
+     */
+    @Test
+    void testAuthorizeAndCaptureHold(){
+        createAccount("891", "GBP", 100);
+        createAccount("892", "GBP", 0);
+        HoldRequest holdRequest = new HoldRequest();
+        holdRequest.setFromAccountId("891");
+        holdRequest.setToAccountId("892");
+        holdRequest.setAmount(40);
+        holdRequest.setCurrencyCode("GBP");
+
+        HoldResponse authorized = this.testRestTemplate
+                .postForObject("http://localhost:" + port + "/accounts/holds",
+                        new HttpEntity<>(holdRequest), HoldResponse.class);
+        BalanceResponse balance = this.testRestTemplate
+                .getForObject("http://localhost:" + port + "/accounts/891/balance", BalanceResponse.class);
+        assertEquals(Hold.Status.AUTHORIZED, authorized.getHold().getStatus());
+        assertEquals(100, balance.getBalance());
+        assertEquals(60, balance.getAvailableBalance());
+
+        CaptureRequest captureRequest = new CaptureRequest();
+        captureRequest.setAmount(25.0);
+        HoldResponse captured = this.testRestTemplate
+                .postForObject("http://localhost:" + port + "/accounts/holds/" + authorized.getHold().getHoldId()
+                        + "/capture", new HttpEntity<>(captureRequest), HoldResponse.class);
+        balance = this.testRestTemplate
+                .getForObject("http://localhost:" + port + "/accounts/891/balance", BalanceResponse.class);
+        assertEquals(Hold.Status.CAPTURED, captured.getHold().getStatus());
+        assertEquals(25, captured.getTransfer().getAmount());
+        assertEquals(75, balance.getBalance());
+        assertEquals(75, balance.getAvailableBalance());
+
+        // a closed hold cannot be voided
+        ResponseEntity<String> voided = this.testRestTemplate
+                .postForEntity("http://localhost:" + port + "/accounts/holds/" + authorized.getHold().getHoldId()
+                        + "/void", null, String.class);
+        assertEquals(HttpStatus.BAD_REQUEST, voided.getStatusCode());
+        assertEquals(HOLD_NOT_FOUND, voided.getBody());
+    }
+
+    /**
+     * Given the application has started
+     * When readiness is checked
+     * Then it reports UP, and the warm-up posted its transfers and left no accounts behind
+     */
+    @Test
+    void testReadyAfterWarmup(){
+        ResponseEntity<String> readiness = this.testRestTemplate
+                .getForEntity("http://localhost:" + port + "/actuator/health/readiness", String.class);
+
+        assertEquals(HttpStatus.OK, readiness.getStatusCode());
+        assertTrue(readiness.getBody().contains("UP"));
+        assertTrue(startupWarmup.requestCount() > 0);
+        // warm-up transfers are limited and numbered like real ones, one per round
+        assertTrue(transferSequence.current() >= 200);
+        assertTrue(accountStore.findAll().stream().noneMatch(account -> account.getAccountId().startsWith("WARMUP-")));
+    }
+
     /**
      * Creates a test account in the system
      * @param accountId account id of the account
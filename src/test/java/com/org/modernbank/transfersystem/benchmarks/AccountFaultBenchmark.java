@@ -0,0 +1,79 @@
+package com.org.modernbank.transfersystem.benchmarks;
+
+import com.org.modernbank.transfersystem.config.AccountTieringProperties;
+import com.org.modernbank.transfersystem.domain.Account;
+import com.org.modernbank.transfersystem.repository.AccountStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of faulting an evicted account history back in from the cold
+ * tier, for a few history lengths, next to using a resident history. Each
+ * fault is paired with the eviction that makes the next access cold again,
+ * so the sample is one fault plus one eviction.
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccountFaultBenchmark {
+
+    private static final int ACCOUNTS = 1_024;
+
+    @Param({"20", "200", "2000"})
+    private int transactions;
+
+    private AccountStore accountStore;
+    private Account[] accounts;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        AccountTieringProperties properties = new AccountTieringProperties();
+        properties.setPath(Files.createTempDirectory("account-fault").toString());
+        accountStore = new AccountStore(properties);
+        accounts = new Account[ACCOUNTS];
+        for (int i = 0; i < ACCOUNTS; i++) {
+            Account account = new Account();
+            account.setAccountId("ACC" + i);
+            account.setCurrencyCode("GBP");
+            for (int t = 0; t < transactions; t++) {
+                account.getHistory().append(t, "ACC" + ((i + t + 1) % ACCOUNTS), t, "GBP", (t & 1) == 0, t);
+            }
+            accountStore.addIfAbsent(account);
+            accounts[i] = account;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        accountStore.close();
+    }
+
+    @Benchmark
+    public int faultAndEvict() {
+        Account account = accounts[next++ & (ACCOUNTS - 1)];
+        accountStore.evict(account);
+        int size;
+        synchronized (account) {
+            size = accountStore.history(account).size();
+        }
+        return size;
+    }
+
+    @Benchmark
+    public int resident() {
+        Account account = accounts[next++ & (ACCOUNTS - 1)];
+        synchronized (account) {
+            return accountStore.history(account).size();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.org.modernbank.transfersystem.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.org.modernbank.transfersystem.config.EventProperties;
+import com.org.modernbank.transfersystem.domain.ImportResponse;
+import com.org.modernbank.transfersystem.events.EventBus;
+import com.org.modernbank.transfersystem.repository.AccountStore;
+import com.org.modernbank.transfersystem.services.AccountImportService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accounts imported per second through the bulk import
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccountImportBenchmark {
+
+    private static final int ACCOUNTS = 500_000;
+
+    @Param({"CSV", "NDJSON"})
+    public AccountImportService.Format format;
+
+    private byte[] upload;
+    private ObjectMapper objectMapper;
+    private EventProperties eventProperties;
+    private EventBus eventBus;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        eventProperties = new EventProperties();
+        eventBus = new EventBus(eventProperties);
+        StringBuilder builder = new StringBuilder(ACCOUNTS * 64);
+        for (int i = 0; i < ACCOUNTS; i++) {
+            if (format == AccountImportService.Format.CSV) {
+                builder.append(i).append(",100.25,GBP\n");
+            } else {
+                builder.append("{\"accountId\":\"").append(i)
+                        .append("\",\"balanceAmount\":100.25,\"currencyCode\":\"GBP\"}\n");
+            }
+        }
+        upload = builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ACCOUNTS)
+    public ImportResponse importAccounts() throws IOException {
+        AccountImportService importService = new AccountImportService(new AccountStore(), objectMapper,
+                eventBus, eventProperties);
+        return importService.importAccounts(new ByteArrayInputStream(upload), format);
+    }
+
+    @TearDown
+    public void tearDown() {
+        eventBus.close();
+    }
+}
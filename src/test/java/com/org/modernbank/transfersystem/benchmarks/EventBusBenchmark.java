@@ -0,0 +1,61 @@
+package com.org.modernbank.transfersystem.benchmarks;
+
+import com.org.modernbank.transfersystem.config.EventProperties;
+import com.org.modernbank.transfersystem.domain.AccountEvent;
+import com.org.modernbank.transfersystem.events.EventBus;
+import com.org.modernbank.transfersystem.events.EventSink;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of publishing an event with 0, 1 and 100 subscribers draining the bus
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBusBenchmark {
+
+    @Param({"0", "1", "100"})
+    public int subscribers;
+
+    private EventBus eventBus;
+
+    @Setup
+    public void setUp() {
+        EventProperties properties = new EventProperties();
+        properties.setMaxSubscribers(Math.max(subscribers, properties.getMaxSubscribers()));
+        eventBus = new EventBus(properties);
+        for (int i = 0; i < subscribers; i++) {
+            eventBus.subscribe("benchmark-" + i, new EventSink() {
+                @Override
+                public void onEvents(List<AccountEvent> events) {
+                    Blackhole.consumeCPU(events.size());
+                }
+
+                @Override
+                public boolean onOverflow(long missedEvents) {
+                    return true;
+                }
+            });
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        eventBus.close();
+    }
+
+    @Benchmark
+    public void publish() {
+        eventBus.publishTransfer(1, "A", "B", 10, "GBP", 0);
+    }
+}
@@ -0,0 +1,113 @@
+package com.org.modernbank.transfersystem.benchmarks;
+
+import com.org.modernbank.transfersystem.config.EventProperties;
+import com.org.modernbank.transfersystem.config.HoldProperties;
+import com.org.modernbank.transfersystem.config.TransferLimitProperties;
+import com.org.modernbank.transfersystem.domain.Account;
+import com.org.modernbank.transfersystem.events.EventBus;
+import com.org.modernbank.transfersystem.ledger.TransferSequence;
+import com.org.modernbank.transfersystem.repository.AccountStore;
+import com.org.modernbank.transfersystem.services.AccountService;
+import com.org.modernbank.transfersystem.services.HoldService;
+import com.org.modernbank.transfersystem.services.TransferLimitService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Authorizations per second. Every authorization is paired with the void
+ * or capture that closes it, so the number of open holds stays flat. The
+ * threaded run gives every thread its own card account, all paying the
+ * same merchant.
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HoldBenchmark {
+
+    private static final int CARDS = 64;
+
+    private final AtomicInteger nextCard = new AtomicInteger();
+    private AccountStore accountStore;
+    private HoldService holdService;
+    private EventBus eventBus;
+
+    @State(Scope.Thread)
+    public static class Card {
+
+        private String accountId;
+
+        @Setup(Level.Trial)
+        public void setUp(HoldBenchmark benchmark) {
+            accountId = "CARD" + benchmark.nextCard.getAndIncrement() % CARDS;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        accountStore = new AccountStore();
+        for (int i = 0; i < CARDS; i++) {
+            accountStore.addIfAbsent(account("CARD" + i, 1_000_000_000));
+        }
+        accountStore.addIfAbsent(account("MERCHANT", 0));
+        TransferLimitProperties limits = new TransferLimitProperties();
+        limits.setEnabled(false);
+        TransferLimitService transferLimitService = new TransferLimitService(limits);
+        eventBus = new EventBus(new EventProperties());
+
+        AccountService accountService = new AccountService(accountStore, transferLimitService,
+                new TransferSequence(), eventBus);
+        holdService = new HoldService(accountStore, accountService, transferLimitService, new HoldProperties());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        eventBus.close();
+    }
+
+    /**
+     * Keeps the captured transfers from growing the histories without bound
+     */
+    @Setup(Level.Iteration)
+    public void clearHistories() {
+        for (Account account : accountStore.findAll()) {
+            account.getHistory().clear();
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object authorizeAndVoid(Card card) {
+        long holdId = holdService.authorize(card.accountId, "MERCHANT", 10, "GBP", null).getHold().getHoldId();
+        return holdService.voidHold(holdId);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object authorizeAndVoid4Threads(Card card) {
+        long holdId = holdService.authorize(card.accountId, "MERCHANT", 10, "GBP", null).getHold().getHoldId();
+        return holdService.voidHold(holdId);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object authorizeAndCapture(Card card) {
+        long holdId = holdService.authorize(card.accountId, "MERCHANT", 10, "GBP", null).getHold().getHoldId();
+        return holdService.capture(holdId, 7.5);
+    }
+
+    private static Account account(String accountId, double balance) {
+        Account account = new Account();
+        account.setAccountId(accountId);
+        account.setCurrencyCode("GBP");
+        account.setBalanceAmount(balance);
+        return account;
+    }
+}
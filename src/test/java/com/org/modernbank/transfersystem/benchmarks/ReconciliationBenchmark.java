@@ -0,0 +1,72 @@
+package com.org.modernbank.transfersystem.benchmarks;
+
+import com.org.modernbank.transfersystem.domain.Account;
+import com.org.modernbank.transfersystem.domain.ReconciliationReport;
+import com.org.modernbank.transfersystem.ledger.TransferSequence;
+import com.org.modernbank.transfersystem.repository.AccountStore;
+import com.org.modernbank.transfersystem.services.ReconciliationService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full reconciliation over a synthetic book. Scale the params up to
+ * 5M accounts / 100 transactions per account with enough heap (-Xmx)
+ * to measure the production sized run.
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx8g"})
+public class ReconciliationBenchmark {
+
+    @Param({"100000"})
+    public int accounts;
+
+    @Param({"100"})
+    public int transactionsPerAccount;
+
+    private ReconciliationService reconciliationService;
+
+    @Setup
+    public void setUp() {
+        AccountStore accountStore = new AccountStore();
+        Account[] book = new Account[accounts];
+        for (int i = 0; i < accounts; i++) {
+            Account account = new Account();
+            account.setAccountId(String.valueOf(i));
+            account.setCurrencyCode(i % 2 == 0 ? "GBP" : "EUR");
+            account.setBalanceAmount(1_000);
+            account.setOpeningBalance(1_000);
+            accountStore.addIfAbsent(account);
+            book[i] = account;
+        }
+
+        // every transfer adds one leg to each side, between accounts of the same currency
+        SplittableRandom random = new SplittableRandom(42);
+        TransferSequence transferSequence = new TransferSequence();
+        long transfers = (long) accounts * transactionsPerAccount / 2;
+        for (long t = 0; t < transfers; t++) {
+            int from = random.nextInt(accounts);
+            int to = (from + 2 * (1 + random.nextInt(accounts / 2 - 1))) % accounts;
+            double amount = 1 + random.nextInt(100);
+            book[from].setBalanceAmount(book[from].getBalanceAmount() - amount);
+            book[to].setBalanceAmount(book[to].getBalanceAmount() + amount);
+            long transferId = transferSequence.next();
+            book[from].getHistory().append(transferId, book[to].getAccountId(), amount, book[from].getCurrencyCode(), true, 0);
+            book[to].getHistory().append(transferId, book[from].getAccountId(), amount, book[to].getCurrencyCode(), false, 0);
+        }
+        reconciliationService = new ReconciliationService(accountStore, transferSequence);
+    }
+
+    @Benchmark
+    public ReconciliationReport reconcile() {
+        return reconciliationService.reconcile();
+    }
+}
@@ -0,0 +1,54 @@
+package com.org.modernbank.transfersystem.benchmarks;
+
+import com.org.modernbank.transfersystem.config.TransferLimitProperties;
+import com.org.modernbank.transfersystem.services.TransferLimitService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overhead of the per-account velocity check on the transfer path
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransferLimitBenchmark {
+
+    private static final int ACCOUNTS = 10_000;
+
+    private TransferLimitService limitService;
+    private String[] accountIds;
+
+    @Setup
+    public void setUp() {
+        // limits high enough that the check never rejects, so only the overhead is measured
+        TransferLimitProperties properties = new TransferLimitProperties();
+        properties.setMaxTransfersPerSecond(1_000_000_000);
+        properties.setMaxAmountPerWindow(1_000_000_000);
+        limitService = new TransferLimitService(properties);
+
+        accountIds = new String[ACCOUNTS];
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accountIds[i] = String.valueOf(i);
+            limitService.checkLimits(accountIds[i], 0);
+        }
+    }
+
+    @Benchmark
+    public void checkLimits() {
+        limitService.checkLimits(accountIds[ThreadLocalRandom.current().nextInt(ACCOUNTS)], 1);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void checkLimitsContended() {
+        limitService.checkLimits(accountIds[ThreadLocalRandom.current().nextInt(8)], 1);
+    }
+}
@@ -0,0 +1,100 @@
+package com.org.modernbank.transfersystem.benchmarks;
+
+import com.org.modernbank.transfersystem.config.EventProperties;
+import com.org.modernbank.transfersystem.config.TransferLimitProperties;
+import com.org.modernbank.transfersystem.domain.Account;
+import com.org.modernbank.transfersystem.domain.TransactionHistory;
+import com.org.modernbank.transfersystem.domain.TransferCommand;
+import com.org.modernbank.transfersystem.domain.TransferResponse;
+import com.org.modernbank.transfersystem.events.EventBus;
+import com.org.modernbank.transfersystem.ledger.TransferSequence;
+import com.org.modernbank.transfersystem.repository.AccountStore;
+import com.org.modernbank.transfersystem.services.AccountService;
+import com.org.modernbank.transfersystem.services.TransferLimitService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transfer path cost, meant to be run with the GC profiler so the
+ * allocation rate per operation is reported next to the latency:
+ * {@code mvn -Pbenchmark verify -DskipTests -Dbenchmark=TransferPathBenchmark -Dbenchmark.args="-prof gc"}
+ *
+ * The command benchmark is the internal path and should report close to
+ * 0 B/op; the response benchmark adds what building the HTTP response costs.
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransferPathBenchmark {
+
+    // histories are cleared at this size, so after the first fill they never grow again
+    private static final int HISTORY_CAPACITY = 1 << 16;
+
+    private final TransferCommand command = new TransferCommand();
+    private AccountService accountService;
+    private AccountStore accountStore;
+    private TransactionHistory history;
+    private EventBus eventBus;
+    private boolean forward;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        accountStore = new AccountStore();
+        accountStore.addIfAbsent(account("A"));
+        accountStore.addIfAbsent(account("B"));
+        TransferLimitProperties limits = new TransferLimitProperties();
+        limits.setMaxTransfersPerSecond(0);
+        limits.setMaxAmountPerWindow(1_000_000_000);
+        history = accountStore.get("A").getHistory();
+        eventBus = new EventBus(new EventProperties());
+
+        accountService = new AccountService(accountStore, new TransferLimitService(limits),
+                new TransferSequence(), eventBus);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        eventBus.close();
+    }
+
+    @Benchmark
+    public long transferCommand() {
+        nextDirection();
+        command.reset();
+        command.setFromAccountId(forward ? "A" : "B");
+        command.setToAccountId(forward ? "B" : "A");
+        command.setAmount(1);
+        command.setCurrencyCode("GBP");
+        accountService.transfer(command);
+        return command.getTransferId();
+    }
+
+    @Benchmark
+    public TransferResponse transferResponse() {
+        nextDirection();
+        return accountService.transferAmount(forward ? "A" : "B", forward ? "B" : "A", 1, "GBP");
+    }
+
+    private void nextDirection() {
+        forward = !forward;
+        if (history.size() == HISTORY_CAPACITY) {
+            history.clear();
+            accountStore.get("B").getHistory().clear();
+        }
+    }
+
+    private static Account account(String accountId) {
+        Account account = new Account();
+        account.setAccountId(accountId);
+        account.setBalanceAmount(1_000_000_000);
+        account.setCurrencyCode("GBP");
+        return account;
+    }
+}
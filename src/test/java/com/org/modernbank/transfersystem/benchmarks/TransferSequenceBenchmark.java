@@ -0,0 +1,35 @@
+package com.org.modernbank.transfersystem.benchmarks;
+
+import com.org.modernbank.transfersystem.ledger.TransferSequence;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transfer id allocation throughput, uncontended and with 32 threads
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransferSequenceBenchmark {
+
+    private final TransferSequence transferSequence = new TransferSequence();
+
+    @Benchmark
+    @Threads(1)
+    public long next() {
+        return transferSequence.next();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public long next32Threads() {
+        return transferSequence.next();
+    }
+}
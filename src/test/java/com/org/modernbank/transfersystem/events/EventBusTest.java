@@ -0,0 +1,201 @@
+package com.org.modernbank.transfersystem.events;
+
+import com.org.modernbank.transfersystem.config.EventProperties;
+import com.org.modernbank.transfersystem.domain.AccountEvent;
+import com.org.modernbank.transfersystem.exceptions.LimitExceededException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the in-process account event bus
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+class EventBusTest {
+
+    /**
+     * Given two subscriptions
+     * When events are published
+     * Then each subscription receives every event in order
+     */
+    @Test
+    void testEventsAreDeliveredInOrder() throws InterruptedException {
+        EventBus eventBus = new EventBus(properties(1024));
+        CollectingSink first = new CollectingSink(100);
+        CollectingSink second = new CollectingSink(100);
+        eventBus.subscribe("first", first);
+        eventBus.subscribe("second", second);
+
+        for (int i = 0; i < 100; i++) {
+            eventBus.publishTransfer(i + 1, "A", "B", i, "GBP", 0);
+        }
+
+        assertTrue(first.received.await(10, TimeUnit.SECONDS));
+        assertTrue(second.received.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, first.events.get(i).getEventSequence());
+            assertEquals(i + 1, first.events.get(i).getTransferId());
+            assertEquals(i, first.events.get(i).getAmount());
+            assertEquals(i, second.events.get(i).getEventSequence());
+        }
+        eventBus.close();
+    }
+
+    /**
+     * Given a subscription that is stuck delivering
+     * When more events are published than the buffer holds
+     * Then publishing carries on and the subscription is told what it missed
+     */
+    @Test
+    void testSlowSubscriberDoesNotBlockPublisher() throws InterruptedException {
+        EventBus eventBus = new EventBus(properties(16));
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicLong missed = new AtomicLong();
+        CountDownLatch closed = new CountDownLatch(1);
+        EventSubscription subscription = eventBus.subscribe("slow", new EventSink() {
+            @Override
+            public void onEvents(List<AccountEvent> events) {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public boolean onOverflow(long missedEvents) {
+                missed.set(missedEvents);
+                return false;
+            }
+
+            @Override
+            public void onClose() {
+                closed.countDown();
+            }
+        });
+
+        eventBus.publishAccountCreated("A", "GBP", 0);
+        assertTrue(blocked.await(10, TimeUnit.SECONDS));
+        // the subscriber is stuck, the publisher must not be
+        for (int i = 0; i < 1000; i++) {
+            eventBus.publishAccountCreated("A", "GBP", 0);
+        }
+        release.countDown();
+
+        assertTrue(closed.await(10, TimeUnit.SECONDS));
+        assertTrue(missed.get() > 0);
+        assertTrue(subscription.isClosed());
+        assertEquals(0, eventBus.subscriberCount());
+    }
+
+    /**
+     * Given a bus that allows a single subscription
+     * When a second sink subscribes
+     * Then it is refused until the first subscription is closed
+     */
+    @Test
+    void testSubscriberCap() throws InterruptedException {
+        EventProperties properties = properties(16);
+        properties.setMaxSubscribers(1);
+        EventBus eventBus = new EventBus(properties);
+        EventSubscription first = eventBus.subscribe("first", new CollectingSink(0));
+
+        assertThrows(LimitExceededException.class, () -> eventBus.subscribe("second", new CollectingSink(0)));
+
+        first.close();
+        // the permit comes back once the subscription's thread has stopped
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        EventSubscription second = null;
+        while (second == null && System.nanoTime() < deadline) {
+            try {
+                second = eventBus.subscribe("second", new CollectingSink(0));
+            } catch (LimitExceededException e) {
+                Thread.sleep(10);
+            }
+        }
+        assertNotNull(second);
+        assertFalse(second.isClosed());
+        eventBus.close();
+    }
+
+    /**
+     * Given more events published than the buffer holds
+     * When sinks subscribe from a retained sequence and from an overwritten one
+     * Then the first resumes at its sequence and the second is told what it missed
+     */
+    @Test
+    void testSubscribeFromSequence() throws InterruptedException {
+        EventBus eventBus = new EventBus(properties(16));
+        for (int i = 0; i < 40; i++) {
+            eventBus.publishTransfer(i + 1, "A", "B", i, "GBP", 0);
+        }
+
+        CollectingSink resumed = new CollectingSink(5);
+        eventBus.subscribe("resumed", resumed, 35);
+        AtomicLong missed = new AtomicLong();
+        CountDownLatch overflowed = new CountDownLatch(1);
+        CollectingSink stale = new CollectingSink(1) {
+            @Override
+            public boolean onOverflow(long missedEvents) {
+                missed.set(missedEvents);
+                overflowed.countDown();
+                return true;
+            }
+        };
+        eventBus.subscribe("stale", stale, 10);
+
+        assertTrue(resumed.received.await(10, TimeUnit.SECONDS));
+        assertEquals(35, resumed.events.get(0).getEventSequence());
+        assertEquals(39, resumed.events.get(4).getEventSequence());
+        assertTrue(overflowed.await(10, TimeUnit.SECONDS));
+        assertTrue(stale.received.await(10, TimeUnit.SECONDS));
+        assertEquals(stale.events.get(0).getEventSequence() - 10, missed.get());
+        eventBus.close();
+    }
+
+    private static EventProperties properties(int bufferSize) {
+        EventProperties properties = new EventProperties();
+        properties.setBufferSize(bufferSize);
+        return properties;
+    }
+
+    private static class CollectingSink implements EventSink {
+
+        private final List<AccountEvent> events = new ArrayList<>();
+        private final CountDownLatch received;
+
+        private CollectingSink(int expected) {
+            this.received = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void onEvents(List<AccountEvent> batch) {
+            for (AccountEvent event : batch) {
+                // batch events are reused by the bus
+                AccountEvent copy = new AccountEvent();
+                copy.copyFrom(event);
+                events.add(copy);
+                received.countDown();
+            }
+        }
+
+        @Override
+        public boolean onOverflow(long missedEvents) {
+            return false;
+        }
+    }
+}
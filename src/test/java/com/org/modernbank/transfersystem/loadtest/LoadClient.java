@@ -0,0 +1,76 @@
+package com.org.modernbank.transfersystem.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Minimal blocking HTTP client for the load tests. Response bodies are read
+ * to the end and dropped so connections go back to the JDK keep-alive cache.
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+final class LoadClient {
+
+    private static final int TIMEOUT_MILLIS = 30_000;
+
+    private final String baseUrl;
+
+    LoadClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * @return HTTP status of the response
+     */
+    int get(String path) throws IOException {
+        return complete(open(path));
+    }
+
+    /**
+     * @return HTTP status of the response
+     */
+    int post(String path, String contentType, String body) throws IOException {
+        HttpURLConnection connection = open(path);
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        connection.setRequestProperty("Content-Type", contentType);
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return complete(connection);
+    }
+
+    /**
+     * @return JSON body of a transfer between two accounts
+     */
+    static String transferJson(String fromAccountId, String toAccountId, double amount) {
+        return "{\"fromAccountId\":\"" + fromAccountId + "\",\"toAccountId\":\"" + toAccountId
+                + "\",\"amount\":" + amount + ",\"currencyCode\":\"GBP\"}";
+    }
+
+    private HttpURLConnection open(String path) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+        connection.setConnectTimeout(TIMEOUT_MILLIS);
+        connection.setReadTimeout(TIMEOUT_MILLIS);
+        return connection;
+    }
+
+    private static int complete(HttpURLConnection connection) throws IOException {
+        int status = connection.getResponseCode();
+        InputStream body = status >= 400 ? connection.getErrorStream() : connection.getInputStream();
+        if (body != null) {
+            try (InputStream in = body) {
+                byte[] buffer = new byte[8192];
+                while (in.read(buffer) >= 0) {
+                    // discard
+                }
+            }
+        }
+        return status;
+    }
+}
@@ -0,0 +1,241 @@
+package com.org.modernbank.transfersystem.loadtest;
+
+import com.org.modernbank.transfersystem.TransferSystem;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.org.modernbank.transfersystem.constants.EndPointConstants.*;
+
+/**
+ * Open-model load generator for the account REST endpoints.
+ *
+ * Requests are scheduled at the configured arrival rate whether or not
+ * earlier ones have completed, the way independent clients behave, and
+ * handed to a pool of client threads. When the server falls behind, the
+ * requests queue up and the time they wait is part of their response time.
+ * Accounts are drawn from a Zipfian distribution and operations from the
+ * configured mix. A line per second shows progress; at the end a report of
+ * the latency percentiles per operation is printed and written, with the
+ * full HdrHistogram percentile distributions, to the report directory.
+ *
+ * Without a url option the embedded server is started in this JVM with the
+ * transfer limits off, which is quick for sizing thread pools but shares the
+ * CPUs with the load generator.
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+public final class LoadGenerator {
+
+    private static final String ACCOUNT_PREFIX = "LT";
+    private static final double TRANSFER_AMOUNT = 1;
+    private static final int DRAIN_SECONDS = 30;
+
+    private final LoadSettings settings;
+    private final String baseUrl;
+    private final LoadClient client;
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    private final AtomicLong maxDispatchLagNanos = new AtomicLong();
+
+    private LoadGenerator(LoadSettings settings, String baseUrl) {
+        this.settings = settings;
+        this.baseUrl = baseUrl;
+        this.client = new LoadClient(baseUrl);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats(operation));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadSettings settings = LoadSettings.parse(args);
+        // keep one idle connection per client thread instead of the default 5
+        System.setProperty("http.maxConnections", String.valueOf(settings.connections));
+
+        ConfigurableApplicationContext server = null;
+        String baseUrl = settings.baseUrl;
+        if (baseUrl == null) {
+            server = SpringApplication.run(TransferSystem.class, serverArguments(settings));
+            baseUrl = "http://localhost:" + server.getEnvironment().getProperty("local.server.port");
+        }
+        boolean passed;
+        try {
+            passed = new LoadGenerator(settings, baseUrl).run();
+        } finally {
+            if (server != null) {
+                server.close();
+            }
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    private static String[] serverArguments(LoadSettings settings) {
+        List<String> arguments = new ArrayList<>(settings.serverArguments);
+        arguments.add("--server.port=0");
+        if (!settings.hasServerArgument("transfer.limits.enabled")) {
+            // a hot account would otherwise be rate limited rather than measured
+            arguments.add("--transfer.limits.enabled=false");
+        }
+        if (!settings.hasServerArgument("accounts.tiering.path")) {
+            arguments.add("--accounts.tiering.path=" + settings.reportDirectory + "/account-store");
+        }
+        return arguments.toArray(new String[0]);
+    }
+
+    /**
+     * Seeds the accounts, runs the warm-up and the measured load and reports
+     * @return false when the p99 limit was exceeded
+     */
+    private boolean run() throws Exception {
+        seedAccounts();
+
+        ThreadPoolExecutor clients = new ThreadPoolExecutor(settings.connections, settings.connections,
+                0, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "load-client");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(settings.warmupSeconds);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(settings.durationSeconds);
+        System.out.printf("Offering %.0f requests/s to %s: %d s warm-up, %d s measured%n",
+                settings.rate, baseUrl, settings.warmupSeconds, settings.durationSeconds);
+        reporter.scheduleAtFixedRate(() -> printInterval(start, measureFrom, clients), 1, 1, TimeUnit.SECONDS);
+
+        dispatch(clients, start, measureFrom, end);
+
+        clients.shutdown();
+        boolean drained = clients.awaitTermination(DRAIN_SECONDS, TimeUnit.SECONDS);
+        reporter.shutdown();
+        reporter.awaitTermination(5, TimeUnit.SECONDS);
+        for (OperationStats operationStats : stats.values()) {
+            operationStats.sample();
+        }
+
+        LoadReport report = new LoadReport(settings, baseUrl, stats, maxDispatchLagNanos.get(), drained);
+        report.print(System.out);
+        report.write();
+        return report.withinLimit();
+    }
+
+    /**
+     * Schedules requests until the end of the run, each at its intended
+     * send time, without waiting for responses
+     */
+    private void dispatch(ExecutorService clients, long start, long measureFrom, long end) {
+        SplittableRandom random = new SplittableRandom(settings.seed);
+        ZipfianDistribution accounts = new ZipfianDistribution(settings.accounts, settings.zipfExponent);
+        Operation[] operations = Operation.values();
+        int[] weights = new int[operations.length];
+        int totalWeight = 0;
+        for (int i = 0; i < operations.length; i++) {
+            weights[i] = settings.mix.getOrDefault(operations[i], 0);
+            totalWeight += weights[i];
+        }
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / settings.rate;
+
+        double offset = 0;
+        for (;;) {
+            offset += settings.arrival == LoadSettings.Arrival.POISSON
+                    ? -Math.log(1 - random.nextDouble()) * intervalNanos : intervalNanos;
+            long intended = start + (long) offset;
+            if (intended >= end) {
+                return;
+            }
+            long now;
+            while ((now = System.nanoTime()) < intended) {
+                LockSupport.parkNanos(intended - now);
+            }
+            long lag = now - intended;
+            if (intended >= measureFrom && lag > maxDispatchLagNanos.get()) {
+                maxDispatchLagNanos.set(lag);
+            }
+
+            int pick = random.nextInt(totalWeight);
+            int index = 0;
+            while (pick >= weights[index]) {
+                pick -= weights[index++];
+            }
+            Operation operation = operations[index];
+            int from = accounts.next(random.nextDouble());
+            int to = accounts.next(random.nextDouble());
+            if (to == from) {
+                to = (from + 1) % settings.accounts;
+            }
+            boolean measured = intended >= measureFrom;
+            int fromAccount = from;
+            int toAccount = to;
+            clients.execute(() -> send(operation, fromAccount, toAccount, intended, measured));
+        }
+    }
+
+    private void send(Operation operation, int from, int to, long intended, boolean measured) {
+        long sent = System.nanoTime();
+        int status;
+        try {
+            switch (operation) {
+                case TRANSFER:
+                    status = client.post(ACCOUNTS + TRANSFER, "application/json",
+                            LoadClient.transferJson(accountId(from), accountId(to), TRANSFER_AMOUNT));
+                    break;
+                case BALANCE:
+                    status = client.get(ACCOUNTS + BALANCE.replace("{accountId}", accountId(from)));
+                    break;
+                default:
+                    status = client.get(ACCOUNTS + MINI_STATEMENT.replace("{accountId}", accountId(from)));
+                    break;
+            }
+        } catch (IOException e) {
+            status = OperationStats.NO_RESPONSE;
+        }
+        long done = System.nanoTime();
+        if (measured) {
+            stats.get(operation).record(done - intended, done - sent, status);
+        }
+    }
+
+    private void seedAccounts() throws IOException {
+        StringBuilder csv = new StringBuilder("accountId,balanceAmount,currencyCode\n");
+        for (int i = 0; i < settings.accounts; i++) {
+            // enough for every transfer of the run to succeed
+            csv.append(accountId(i)).append(",1000000000,GBP\n");
+        }
+        int status = client.post(ACCOUNTS + IMPORT_ACCOUNTS, TEXT_CSV_VALUE, csv.toString());
+        if (status != 200) {
+            throw new IOException("Seeding " + settings.accounts + " accounts failed with HTTP " + status);
+        }
+    }
+
+    private void printInterval(long start, long measureFrom, ThreadPoolExecutor clients) {
+        Histogram interval = null;
+        for (OperationStats operationStats : stats.values()) {
+            Histogram sample = operationStats.sample();
+            if (interval == null) {
+                interval = sample.copy();
+            } else {
+                interval.add(sample);
+            }
+        }
+        long now = System.nanoTime();
+        System.out.printf("%4ds %-8s %7d req/s  p50 %8.2f ms  p99 %8.2f ms  max %8.2f ms  queued %d%n",
+                TimeUnit.NANOSECONDS.toSeconds(now - start), now < measureFrom ? "warm-up" : "measured",
+                interval.getTotalCount(), interval.getValueAtPercentile(50) / 1e6,
+                interval.getValueAtPercentile(99) / 1e6, interval.getMaxValue() / 1e6, clients.getQueue().size());
+    }
+
+    static String accountId(int index) {
+        return ACCOUNT_PREFIX + index;
+    }
+}
@@ -0,0 +1,129 @@
+package com.org.modernbank.transfersystem.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Summary of a load test run: per operation and overall throughput, errors
+ * and response and service time percentiles, and the status codes seen.
+ * The summary goes to report.txt and each operation's full response time
+ * distribution to an .hgrm file, which HdrHistogram's plotter can chart.
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+final class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    private final LoadSettings settings;
+    private final String baseUrl;
+    private final Map<Operation, OperationStats> stats;
+    private final long maxDispatchLagNanos;
+    private final boolean drained;
+    private final Histogram overall = new Histogram(3);
+
+    LoadReport(LoadSettings settings, String baseUrl, Map<Operation, OperationStats> stats,
+               long maxDispatchLagNanos, boolean drained) {
+        this.settings = settings;
+        this.baseUrl = baseUrl;
+        this.stats = stats;
+        this.maxDispatchLagNanos = maxDispatchLagNanos;
+        this.drained = drained;
+        for (OperationStats operationStats : stats.values()) {
+            overall.add(operationStats.responseTotal());
+        }
+    }
+
+    /**
+     * @return true when no p99 limit was set or the overall p99 response time is within it
+     */
+    boolean withinLimit() {
+        return settings.p99LimitMillis <= 0 || overallP99Millis() <= settings.p99LimitMillis;
+    }
+
+    void print(PrintStream out) {
+        out.printf(Locale.ROOT, "%nTarget %s, offered %.0f requests/s (%s arrivals) for %d s, %d accounts, zipf %.2f%n",
+                baseUrl, settings.rate, settings.arrival.name().toLowerCase(Locale.ROOT),
+                settings.durationSeconds, settings.accounts, settings.zipfExponent);
+        out.printf(Locale.ROOT, "%-10s %-8s %9s %9s %7s", "operation", "time", "requests", "req/s", "errors");
+        for (double percentile : PERCENTILES) {
+            out.printf(Locale.ROOT, " %9s", "p" + formatPercentile(percentile));
+        }
+        out.printf(Locale.ROOT, " %9s%n", "max");
+
+        long errors = 0;
+        for (OperationStats operationStats : stats.values()) {
+            String name = operationStats.operation.name().toLowerCase(Locale.ROOT);
+            printRow(out, name, "response", operationStats.responseTotal(), operationStats.errors());
+            printRow(out, "", "service", operationStats.serviceTotal(), operationStats.errors());
+            errors += operationStats.errors();
+        }
+        printRow(out, "all", "response", overall, errors);
+
+        out.println();
+        out.println("Response time is from the scheduled send time, service time from the actual send time (ms).");
+        for (OperationStats operationStats : stats.values()) {
+            out.printf(Locale.ROOT, "%-10s status %s%n",
+                    operationStats.operation.name().toLowerCase(Locale.ROOT), operationStats.statuses());
+        }
+        out.printf(Locale.ROOT, "Max dispatch lag %.2f ms%n", maxDispatchLagNanos / NANOS_PER_MILLI);
+        if (!drained) {
+            out.println("Requests were still outstanding at the end of the run and are missing from the report");
+        }
+        if (settings.p99LimitMillis > 0) {
+            out.printf(Locale.ROOT, "p99 %.2f ms against a limit of %.2f ms: %s%n", overallP99Millis(),
+                    settings.p99LimitMillis, withinLimit() ? "PASS" : "FAIL");
+        }
+    }
+
+    /**
+     * Writes report.txt and one .hgrm percentile distribution per operation
+     * to the report directory
+     */
+    void write() throws IOException {
+        Path directory = Paths.get(settings.reportDirectory);
+        Files.createDirectories(directory);
+        try (PrintStream out = new PrintStream(new FileOutputStream(directory.resolve("report.txt").toFile()))) {
+            print(out);
+        }
+        for (OperationStats operationStats : stats.values()) {
+            writeDistribution(directory, operationStats.operation.name().toLowerCase(Locale.ROOT),
+                    operationStats.responseTotal());
+        }
+        writeDistribution(directory, "all", overall);
+        System.out.println("Report written to " + directory.toAbsolutePath());
+    }
+
+    private static void writeDistribution(Path directory, String name, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(new FileOutputStream(directory.resolve(name + ".hgrm").toFile()))) {
+            histogram.outputPercentileDistribution(out, NANOS_PER_MILLI);
+        }
+    }
+
+    private void printRow(PrintStream out, String operation, String time, Histogram histogram, long errors) {
+        out.printf(Locale.ROOT, "%-10s %-8s %9d %9.1f %7d", operation, time, histogram.getTotalCount(),
+                histogram.getTotalCount() / (double) settings.durationSeconds, errors);
+        for (double percentile : PERCENTILES) {
+            out.printf(Locale.ROOT, " %9.2f", histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI);
+        }
+        out.printf(Locale.ROOT, " %9.2f%n", histogram.getMaxValue() / NANOS_PER_MILLI);
+    }
+
+    private double overallP99Millis() {
+        return overall.getValueAtPercentile(99) / NANOS_PER_MILLI;
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+}
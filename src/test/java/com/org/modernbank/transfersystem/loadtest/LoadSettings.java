@@ -0,0 +1,138 @@
+package com.org.modernbank.transfersystem.loadtest;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Load test options, given as name=value arguments. Arguments whose name
+ * contains a dot are Spring properties for the embedded server, e.g.
+ * server.tomcat.threads.max=50.
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+final class LoadSettings {
+
+    enum Arrival {
+        // exponential gaps between requests, like independent clients
+        POISSON,
+        // evenly spaced requests
+        UNIFORM
+    }
+
+    // requests per second offered, whatever the server's response times
+    double rate = 1_000;
+    long durationSeconds = 30;
+    // requests sent before measuring, for the JIT and the connection pools
+    long warmupSeconds = 10;
+    Arrival arrival = Arrival.POISSON;
+
+    int accounts = 10_000;
+    double zipfExponent = 0.99;
+    final Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+
+    // client threads, one keep-alive connection each
+    int connections = 64;
+    // server under test, the embedded server is started when missing
+    String baseUrl;
+    String reportDirectory = "target/loadtest";
+    // fails the run when the overall p99 response time goes over it, 0 never fails
+    double p99LimitMillis;
+    long seed = 42;
+
+    final List<String> serverArguments = new ArrayList<>();
+
+    LoadSettings() {
+        mix.put(Operation.TRANSFER, 20);
+        mix.put(Operation.BALANCE, 70);
+        mix.put(Operation.STATEMENT, 10);
+    }
+
+    static LoadSettings parse(String[] args) {
+        LoadSettings settings = new LoadSettings();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected name=value but got " + arg);
+            }
+            String name = arg.substring(0, separator);
+            String value = arg.substring(separator + 1);
+            if (name.indexOf('.') >= 0) {
+                settings.serverArguments.add("--" + arg);
+                continue;
+            }
+            switch (name) {
+                case "rate":
+                    settings.rate = Double.parseDouble(value);
+                    break;
+                case "duration":
+                    settings.durationSeconds = Long.parseLong(value);
+                    break;
+                case "warmup":
+                    settings.warmupSeconds = Long.parseLong(value);
+                    break;
+                case "arrival":
+                    settings.arrival = Arrival.valueOf(value.toUpperCase(Locale.ROOT));
+                    break;
+                case "accounts":
+                    settings.accounts = Integer.parseInt(value);
+                    break;
+                case "zipf":
+                    settings.zipfExponent = Double.parseDouble(value);
+                    break;
+                case "mix":
+                    settings.parseMix(value);
+                    break;
+                case "connections":
+                    settings.connections = Integer.parseInt(value);
+                    break;
+                case "url":
+                    settings.baseUrl = value;
+                    break;
+                case "report":
+                    settings.reportDirectory = value;
+                    break;
+                case "p99-limit-ms":
+                    settings.p99LimitMillis = Double.parseDouble(value);
+                    break;
+                case "seed":
+                    settings.seed = Long.parseLong(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + name);
+            }
+        }
+        if (settings.rate <= 0 || settings.durationSeconds <= 0 || settings.accounts < 2
+                || settings.connections < 1) {
+            throw new IllegalArgumentException("rate, duration, accounts and connections must be positive");
+        }
+        return settings;
+    }
+
+    /**
+     * @return true when the server arguments set the property
+     */
+    boolean hasServerArgument(String name) {
+        for (String argument : serverArguments) {
+            if (argument.startsWith("--" + name + "=")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // e.g. transfer:20,balance:70,statement:10
+    private void parseMix(String value) {
+        mix.clear();
+        for (String part : value.split(",")) {
+            String[] weight = part.split(":");
+            mix.put(Operation.valueOf(weight[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(weight[1].trim()));
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("The traffic mix needs a positive weight");
+        }
+    }
+}
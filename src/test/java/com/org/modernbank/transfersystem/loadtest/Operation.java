@@ -0,0 +1,17 @@
+package com.org.modernbank.transfersystem.loadtest;
+
+/**
+ * Requests in the traffic mix, one per endpoint exercised
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+enum Operation {
+
+    // POST /accounts/transfer
+    TRANSFER,
+    // GET /accounts/{accountId}/balance
+    BALANCE,
+    // GET /accounts/{accountId}/statements/mini
+    STATEMENT
+}
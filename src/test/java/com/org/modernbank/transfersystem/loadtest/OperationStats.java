@@ -0,0 +1,89 @@
+package com.org.modernbank.transfersystem.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies and status codes of one operation.
+ *
+ * Response time is measured from the time the request was scheduled to be
+ * sent, so time a request spent waiting for a free connection while the
+ * server was slow is counted; this corrects for coordinated omission.
+ * Service time is measured from the time it was actually sent, which is what
+ * a closed-model client would report.
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+final class OperationStats {
+
+    // status recorded when the request failed without a response
+    static final int NO_RESPONSE = -1;
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    final Operation operation;
+
+    private final Recorder responseRecorder = new Recorder(SIGNIFICANT_DIGITS);
+    private final Recorder serviceRecorder = new Recorder(SIGNIFICANT_DIGITS);
+    private final ConcurrentMap<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final LongAdder errors = new LongAdder();
+
+    // guarded by this, added to by the reporter
+    private final Histogram responseTotal = new Histogram(SIGNIFICANT_DIGITS);
+    private final Histogram serviceTotal = new Histogram(SIGNIFICANT_DIGITS);
+
+    OperationStats(Operation operation) {
+        this.operation = operation;
+    }
+
+    /**
+     * Records one completed request, safe to call from any thread
+     * @param responseNanos nanoseconds from the scheduled send time to the response
+     * @param serviceNanos nanoseconds from the actual send time to the response
+     * @param status HTTP status, or {@link #NO_RESPONSE}
+     */
+    void record(long responseNanos, long serviceNanos, int status) {
+        responseRecorder.recordValue(responseNanos);
+        serviceRecorder.recordValue(serviceNanos);
+        statuses.computeIfAbsent(status, code -> new LongAdder()).increment();
+        if (status < 200 || status >= 300) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * Moves what was recorded since the last call into the totals
+     * @return response times recorded since the last call
+     */
+    synchronized Histogram sample() {
+        Histogram interval = responseRecorder.getIntervalHistogram();
+        responseTotal.add(interval);
+        serviceTotal.add(serviceRecorder.getIntervalHistogram());
+        return interval;
+    }
+
+    synchronized Histogram responseTotal() {
+        return responseTotal.copy();
+    }
+
+    synchronized Histogram serviceTotal() {
+        return serviceTotal.copy();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    Map<Integer, Long> statuses() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statuses.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+}
@@ -0,0 +1,295 @@
+package com.org.modernbank.transfersystem.loadtest;
+
+import com.org.modernbank.transfersystem.TransferSystem;
+import org.HdrHistogram.Histogram;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+import static com.org.modernbank.transfersystem.constants.EndPointConstants.*;
+
+/**
+ * Cold start benchmark: starts the application in a fresh JVM and measures
+ * the time until readiness reports UP, the time until the first request is
+ * answered, and the time until the p99 response time settles at its steady
+ * state under a constant request rate.
+ *
+ * It compares a start without the warm-up, a start with it, and, when the
+ * cds profile has built target/cds, a start with the warm-up and the AppCDS
+ * archive. The steady p99 is the p99 of the last third of the run; the
+ * application has settled from the end of the first window after which no
+ * window's p99 is more than {@value #SETTLED_FACTOR} times the steady p99.
+ *
+ * Options are name=value: rate (requests/s, default 500), duration (seconds
+ * of load after readiness, default 30), window-ms (default 500), runs
+ * (starts per variant, default 1) and report (default target/loadtest).
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+public final class StartupBenchmark {
+
+    private static final double SETTLED_FACTOR = 1.5;
+    private static final int ACCOUNT_COUNT = 100;
+    private static final int CLIENT_THREADS = 16;
+    private static final long READY_TIMEOUT_SECONDS = 180;
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    private double rate = 500;
+    private long durationSeconds = 30;
+    private long windowMillis = 500;
+    private int runs = 1;
+    private String reportDirectory = "target/loadtest";
+
+    /**
+     * Outcome of one start, times in milliseconds from launching the JVM
+     */
+    private static final class Result {
+        private String variant;
+        private double readyMillis;
+        private double firstResponseMillis;
+        private double firstRequestLatencyMillis;
+        private double earlyP99Millis;
+        private double steadyP99Millis;
+        private double settledMillis;
+    }
+
+    public static void main(String[] args) throws Exception {
+        StartupBenchmark benchmark = new StartupBenchmark();
+        for (String arg : args) {
+            String[] option = arg.split("=", 2);
+            if (option.length != 2) {
+                throw new IllegalArgumentException("Expected name=value but got " + arg);
+            }
+            switch (option[0]) {
+                case "rate":
+                    benchmark.rate = Double.parseDouble(option[1]);
+                    break;
+                case "duration":
+                    benchmark.durationSeconds = Long.parseLong(option[1]);
+                    break;
+                case "window-ms":
+                    benchmark.windowMillis = Long.parseLong(option[1]);
+                    break;
+                case "runs":
+                    benchmark.runs = Integer.parseInt(option[1]);
+                    break;
+                case "report":
+                    benchmark.reportDirectory = option[1];
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + option[0]);
+            }
+        }
+        benchmark.run();
+    }
+
+    private void run() throws Exception {
+        Path directory = Paths.get(reportDirectory).toAbsolutePath();
+        Files.createDirectories(directory);
+        File cdsJar = findCdsJar();
+        List<Result> results = new ArrayList<>();
+        for (int run = 0; run < runs; run++) {
+            results.add(start("no warm-up", cdsJar, directory, false, "--startup.warmup.enabled=false"));
+            results.add(start("warm-up", cdsJar, directory, false));
+            if (cdsJar != null && new File(cdsJar.getParentFile(), "app.jsa").exists()) {
+                results.add(start("warm-up + CDS", cdsJar, directory, true));
+            }
+        }
+        print(System.out, results);
+        try (PrintStream out = new PrintStream(new FileOutputStream(directory.resolve("startup.txt").toFile()))) {
+            print(out, results);
+        }
+        if (cdsJar == null) {
+            System.out.println("Build target/cds with mvn -Pcds package -DskipTests to compare with class data sharing");
+        }
+    }
+
+    private Result start(String variant, File cdsJar, Path directory, boolean sharedArchive, String... arguments)
+            throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        if (cdsJar != null) {
+            if (sharedArchive) {
+                command.add("-XX:SharedArchiveFile=" + new File(cdsJar.getParentFile(), "app.jsa"));
+            }
+            command.add("-jar");
+            command.add(cdsJar.getAbsolutePath());
+        } else {
+            command.add("-cp");
+            command.add(System.getProperty("java.class.path"));
+            command.add(TransferSystem.class.getName());
+        }
+        command.add("--server.port=" + port);
+        command.add("--transfer.limits.enabled=false");
+        command.add("--accounts.tiering.path=" + directory.resolve("startup-account-store"));
+        command.addAll(Arrays.asList(arguments));
+
+        System.out.println("Starting " + variant);
+        Result result = new Result();
+        result.variant = variant;
+        long launched = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(directory.resolve("startup-" + variant.replaceAll("\\W+", "-") + ".log").toFile())
+                .start();
+        try {
+            LoadClient client = new LoadClient("http://localhost:" + port);
+            result.readyMillis = millisSince(launched, awaitReady(client, process, launched));
+
+            // the import is the first request the application serves
+            StringBuilder csv = new StringBuilder();
+            for (int i = 0; i < ACCOUNT_COUNT; i++) {
+                csv.append(LoadGenerator.accountId(i)).append(",1000000000,GBP\n");
+            }
+            long sent = System.nanoTime();
+            if (client.post(ACCOUNTS + IMPORT_ACCOUNTS, TEXT_CSV_VALUE, csv.toString()) != 200) {
+                throw new IOException("Seeding accounts failed");
+            }
+            long answered = System.nanoTime();
+            result.firstResponseMillis = millisSince(launched, answered);
+            result.firstRequestLatencyMillis = millisSince(sent, answered);
+
+            Histogram[] windows = drive(client, answered);
+            summarise(result, windows, millisSince(launched, answered));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+        return result;
+    }
+
+    private static long awaitReady(LoadClient client, Process process, long launched) throws Exception {
+        long deadline = launched + TimeUnit.SECONDS.toNanos(READY_TIMEOUT_SECONDS);
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IOException("The application exited with " + process.exitValue());
+            }
+            try {
+                if (client.get("/actuator/health/readiness") == 200) {
+                    return System.nanoTime();
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(5));
+        }
+        throw new IOException("The application was not ready within " + READY_TIMEOUT_SECONDS + " s");
+    }
+
+    /**
+     * Sends transfers and balance inquiries at a constant rate, recording
+     * response times from the scheduled send time into one histogram per window
+     */
+    private Histogram[] drive(LoadClient client, long start) throws InterruptedException {
+        int windowCount = (int) (TimeUnit.SECONDS.toMillis(durationSeconds) / windowMillis);
+        Histogram[] windows = new Histogram[windowCount];
+        for (int i = 0; i < windowCount; i++) {
+            windows[i] = new Histogram(3);
+        }
+        long windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        long end = start + windowNanos * windowCount;
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENT_THREADS);
+        for (long request = 0; ; request++) {
+            long intended = start + (long) (request * intervalNanos);
+            if (intended >= end) {
+                break;
+            }
+            long now;
+            while ((now = System.nanoTime()) < intended) {
+                LockSupport.parkNanos(intended - now);
+            }
+            int from = (int) (request % ACCOUNT_COUNT);
+            boolean transfer = request % 2 == 0;
+            Histogram window = windows[(int) ((intended - start) / windowNanos)];
+            executor.execute(() -> {
+                try {
+                    if (transfer) {
+                        client.post(ACCOUNTS + TRANSFER, "application/json", LoadClient.transferJson(
+                                LoadGenerator.accountId(from), LoadGenerator.accountId((from + 1) % ACCOUNT_COUNT), 1));
+                    } else {
+                        client.get(ACCOUNTS + BALANCE.replace("{accountId}", LoadGenerator.accountId(from)));
+                    }
+                } catch (IOException e) {
+                    // counted by its response time like any other request
+                }
+                long latency = System.nanoTime() - intended;
+                synchronized (window) {
+                    window.recordValue(latency);
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(60, TimeUnit.SECONDS);
+        return windows;
+    }
+
+    private void summarise(Result result, Histogram[] windows, double loadStartMillis) {
+        Histogram steady = new Histogram(3);
+        for (int i = windows.length - windows.length / 3; i < windows.length; i++) {
+            steady.add(windows[i]);
+        }
+        result.steadyP99Millis = steady.getValueAtPercentile(99) / NANOS_PER_MILLI;
+        result.earlyP99Millis = windows[0].getValueAtPercentile(99) / NANOS_PER_MILLI;
+
+        int settled = windows.length;
+        while (settled > 0 && windows[settled - 1].getValueAtPercentile(99) / NANOS_PER_MILLI
+                <= result.steadyP99Millis * SETTLED_FACTOR) {
+            settled--;
+        }
+        result.settledMillis = loadStartMillis + settled * (double) windowMillis;
+    }
+
+    private void print(PrintStream out, List<Result> results) {
+        out.printf(Locale.ROOT, "%nStartup at %.0f requests/s for %d s, p99 per %d ms window%n",
+                rate, durationSeconds, windowMillis);
+        out.printf(Locale.ROOT, "%-15s %10s %12s %13s %14s %11s %16s%n", "variant", "ready ms",
+                "first resp ms", "first req ms", "first p99 ms", "steady p99", "steady p99 at ms");
+        for (Result result : results) {
+            out.printf(Locale.ROOT, "%-15s %10.0f %12.0f %13.1f %14.2f %11.2f %16.0f%n", result.variant,
+                    result.readyMillis, result.firstResponseMillis, result.firstRequestLatencyMillis,
+                    result.earlyP99Millis, result.steadyP99Millis, result.settledMillis);
+        }
+        out.println("Times are from launching the JVM; first p99 is the p99 of the first window of load.");
+    }
+
+    // the thin jar the cds profile builds, class data sharing needs it rather than the executable jar
+    private static File findCdsJar() throws IOException {
+        Path directory = Paths.get("target", "cds");
+        if (!Files.isDirectory(directory)) {
+            return null;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith("-cds.jar"))
+                    .map(Path::toFile)
+                    .findFirst()
+                    .orElse(null);
+        }
+    }
+
+    private static double millisSince(long startNanos, long endNanos) {
+        return (endNanos - startNanos) / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,54 @@
+package com.org.modernbank.transfersystem.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Zipfian distribution over a fixed number of items: item k (from 0) is
+ * drawn with probability proportional to 1 / (k + 1)^exponent, so a few
+ * accounts take most of the traffic as they do in production. Draws are a
+ * binary search over the precomputed cumulative distribution.
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+final class ZipfianDistribution {
+
+    private final double[] cumulative;
+
+    /**
+     * @param items number of items
+     * @param exponent skew, 0 is uniform and around 1 is typical
+     */
+    ZipfianDistribution(int items, double exponent) {
+        if (items < 1 || exponent < 0) {
+            throw new IllegalArgumentException("Invalid zipfian distribution");
+        }
+        cumulative = new double[items];
+        double total = 0;
+        for (int i = 0; i < items; i++) {
+            total += 1 / Math.pow(i + 1, exponent);
+            cumulative[i] = total;
+        }
+        for (int i = 0; i < items; i++) {
+            cumulative[i] /= total;
+        }
+    }
+
+    /**
+     * @param uniform uniformly distributed value in [0, 1)
+     * @return item drawn, 0 is the most frequent
+     */
+    int next(double uniform) {
+        int index = Arrays.binarySearch(cumulative, uniform);
+        int item = index >= 0 ? index + 1 : -index - 1;
+        return Math.min(item, cumulative.length - 1);
+    }
+
+    /**
+     * @param item item
+     * @return probability of drawing the item
+     */
+    double probability(int item) {
+        return item == 0 ? cumulative[0] : cumulative[item] - cumulative[item - 1];
+    }
+}
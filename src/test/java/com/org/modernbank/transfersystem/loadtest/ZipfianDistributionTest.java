@@ -0,0 +1,54 @@
+package com.org.modernbank.transfersystem.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the load test account distribution
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+class ZipfianDistributionTest {
+
+    /**
+     * Given a zipfian distribution over 1000 accounts
+     * When a million accounts are drawn
+     * Then each account is drawn about as often as its probability says and the most popular the most often
+     */
+    @Test
+    void testDrawsFollowTheDistribution() {
+        ZipfianDistribution distribution = new ZipfianDistribution(1_000, 0.99);
+        SplittableRandom random = new SplittableRandom(1);
+        int[] counts = new int[1_000];
+        int draws = 1_000_000;
+
+        for (int i = 0; i < draws; i++) {
+            counts[distribution.next(random.nextDouble())]++;
+        }
+
+        for (int item : new int[]{0, 1, 9, 99}) {
+            assertEquals(distribution.probability(item), counts[item] / (double) draws,
+                    distribution.probability(item) * 0.05);
+        }
+        assertTrue(counts[0] > counts[1] && counts[1] > counts[99]);
+    }
+
+    /**
+     * Given an exponent of 0
+     * When the probabilities are read
+     * Then every account is equally likely and the extremes of the uniform input stay in range
+     */
+    @Test
+    void testZeroExponentIsUniform() {
+        ZipfianDistribution distribution = new ZipfianDistribution(4, 0);
+
+        assertEquals(0.25, distribution.probability(0), 1e-12);
+        assertEquals(0.25, distribution.probability(3), 1e-12);
+        assertEquals(0, distribution.next(0));
+        assertEquals(3, distribution.next(Math.nextDown(1.0)));
+    }
+}
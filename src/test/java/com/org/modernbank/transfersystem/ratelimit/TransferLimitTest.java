@@ -0,0 +1,105 @@
+package com.org.modernbank.transfersystem.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the lock-free token bucket and sliding window used by the
+ * transfer velocity checks
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+class TransferLimitTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Given a bucket of 5 transfers per second
+     * When 6 transfers arrive at the same instant
+     * Then only the burst of 5 is allowed until the bucket refills
+     */
+    @Test
+    void testTokenBucketBurstAndRefill() {
+        TokenBucket bucket = new TokenBucket(5, 5, 0);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(bucket.tryAcquire(0));
+        }
+        assertFalse(bucket.tryAcquire(0));
+
+        // one emission interval later a single permit is available again
+        assertTrue(bucket.tryAcquire(SECOND / 5));
+        assertFalse(bucket.tryAcquire(SECOND / 5));
+    }
+
+    /**
+     * Given a window of 100 over 10 seconds
+     * When the window is filled
+     * Then further amounts are refused until the old slots roll out
+     */
+    @Test
+    void testSlidingWindowRollsOver() {
+        SlidingWindowCounter window = new SlidingWindowCounter(100, 10 * SECOND, 10);
+
+        assertTrue(window.tryAdd(60, 0));
+        assertTrue(window.tryAdd(40, 5 * SECOND));
+        assertFalse(window.tryAdd(1, 9 * SECOND));
+        assertEquals(100, window.total(9 * SECOND));
+
+        // the first 60 falls out of the window after 10 seconds
+        assertTrue(window.tryAdd(60, 10 * SECOND));
+        assertEquals(100, window.total(10 * SECOND));
+    }
+
+    /**
+     * Given many threads racing on the same bucket and window
+     * When they all try at the same instant
+     * Then the admitted count and total never exceed the limits
+     */
+    @Test
+    void testLimitsHoldUnderConcurrency() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(1000, 1000, 0);
+        SlidingWindowCounter window = new SlidingWindowCounter(500, 10 * SECOND, 10);
+        AtomicInteger permits = new AtomicInteger();
+        AtomicInteger added = new AtomicInteger();
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < 1000; i++) {
+                    if (bucket.tryAcquire(0)) {
+                        permits.incrementAndGet();
+                    }
+                    if (window.tryAdd(1, 0)) {
+                        added.incrementAndGet();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(1000, permits.get());
+        assertTrue(added.get() <= 500);
+        assertEquals(added.get(), window.total(0));
+    }
+}
@@ -0,0 +1,241 @@
+package com.org.modernbank.transfersystem.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.org.modernbank.transfersystem.config.AccountTieringProperties;
+import com.org.modernbank.transfersystem.config.EventProperties;
+import com.org.modernbank.transfersystem.config.TransferLimitProperties;
+import com.org.modernbank.transfersystem.domain.Account;
+import com.org.modernbank.transfersystem.domain.ReconciliationReport;
+import com.org.modernbank.transfersystem.domain.Transaction;
+import com.org.modernbank.transfersystem.domain.TransactionHistory;
+import com.org.modernbank.transfersystem.events.EventBus;
+import com.org.modernbank.transfersystem.ledger.TransferSequence;
+import com.org.modernbank.transfersystem.services.AccountService;
+import com.org.modernbank.transfersystem.services.ReconciliationService;
+import com.org.modernbank.transfersystem.services.TransferLimitService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for evicting dormant account histories to the cold tier
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+class AccountStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private AccountStore accountStore;
+    private final TransferSequence transferSequence = new TransferSequence();
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (accountStore != null) {
+            accountStore.close();
+        }
+    }
+
+    /**
+     * Given an account whose history was evicted
+     * When its history is used again
+     * Then the same transactions are faulted back in from disk
+     */
+    @Test
+    void testEvictedHistoryIsFaultedBackIn() {
+        accountStore = new AccountStore(properties(256));
+        Account account = createAccount("A", 100);
+        createAccount("B", 0);
+        List<Transaction> before = account.getTransactions();
+
+        assertTrue(accountStore.evict(account));
+
+        assertFalse(account.getHistory().isResident());
+        assertEquals(0, accountStore.residentBytes() - accountStore.get("B").getHistory().footprint());
+        TransactionHistory history;
+        synchronized (account) {
+            history = accountStore.history(account);
+        }
+        assertTrue(history.isResident());
+        assertEquals(100, history.size());
+        List<Transaction> after = account.getTransactions();
+        for (int i = 0; i < before.size(); i++) {
+            assertEquals(before.get(i).getTransferId(), after.get(i).getTransferId());
+            assertEquals(before.get(i).getAmount(), after.get(i).getAmount());
+            assertEquals(before.get(i).getType(), after.get(i).getType());
+            // decoded account ids are the account's own instance again
+            assertSame(accountStore.get("B").getAccountId(), history.getCounterparty(i));
+        }
+    }
+
+    /**
+     * Given an account whose history was evicted
+     * When a snapshot of it is serialized for a response
+     * Then every transaction is included and the history stays evicted
+     */
+    @Test
+    void testSnapshotSerializesEvictedHistory() throws Exception {
+        accountStore = new AccountStore(properties(256));
+        Account account = createAccount("A", 100);
+        assertTrue(accountStore.evict(account));
+
+        Account snapshot;
+        synchronized (account) {
+            snapshot = accountStore.snapshot(account);
+        }
+        JsonNode json = new ObjectMapper().valueToTree(snapshot);
+
+        assertFalse(account.getHistory().isResident());
+        assertEquals("A", json.get("accountId").asText());
+        assertEquals(100, json.get("transactions").size());
+        assertEquals(100, json.get("transactions").get(99).get("transferId").asLong());
+        assertNull(json.get("history"));
+    }
+
+    /**
+     * Given resident histories well over the heap budget
+     * When the clock sweep runs
+     * Then idle histories are evicted until the budget is met and can still be read in place
+     */
+    @Test
+    void testEvictionKeepsHistoriesWithinBudget() {
+        accountStore = new AccountStore(properties(1));
+        for (int i = 0; i < 200; i++) {
+            createAccount("ACC" + i, 1_000);
+        }
+        assertTrue(accountStore.residentBytes() > 1 << 20);
+        Account used = accountStore.get("ACC0");
+        synchronized (used) {
+            accountStore.history(used);
+        }
+
+        assertTrue(accountStore.evictToBudget(System.currentTimeMillis()) > 0);
+
+        assertTrue(accountStore.residentBytes() <= 1 << 20);
+        // the recently used account was spared on the first pass of the hand
+        assertTrue(used.getHistory().isResident());
+        Account evicted = accountStore.findAll().stream()
+                .filter(account -> !account.getHistory().isResident()).findFirst().get();
+        synchronized (evicted) {
+            assertEquals(1_000, accountStore.readHistory(evicted, new TransactionHistory()).size());
+        }
+        assertFalse(evicted.getHistory().isResident());
+    }
+
+    /**
+     * Given transfers running between a few accounts
+     * When their histories are evicted at random at the same time
+     * Then no leg is lost and the ledger reconciles
+     */
+    @Test
+    void testConcurrentTransfersAndEvictions() throws Exception {
+        accountStore = new AccountStore(properties(256));
+        for (int i = 0; i < 8; i++) {
+            createAccount("ACC" + i, 0);
+        }
+        AccountService accountService = accountService();
+        AtomicBoolean transferring = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 3; t++) {
+            futures.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < 2_000; i++) {
+                    int from = random.nextInt(8);
+                    int to = (from + 1 + random.nextInt(7)) % 8;
+                    accountService.transferAmount("ACC" + from, "ACC" + to, 1, "GBP");
+                }
+            }));
+        }
+        Future<?> evictions = executor.submit(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (transferring.get()) {
+                accountStore.evict(accountStore.get("ACC" + random.nextInt(8)));
+            }
+        });
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        transferring.set(false);
+        evictions.get(60, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        ReconciliationReport report = new ReconciliationService(accountStore, transferSequence).reconcile();
+        assertEquals(12_000, report.getTransactionsScanned());
+        assertEquals(0, report.getDriftedAccountCount());
+        assertEquals(0, report.getOrphanedLegCount());
+    }
+
+    private AccountService accountService() {
+        TransferLimitProperties limits = new TransferLimitProperties();
+        limits.setEnabled(false);
+        return new AccountService(accountStore, new TransferLimitService(limits), transferSequence,
+                new EventBus(new EventProperties()));
+    }
+
+    private Account createAccount(String accountId, int transactions) {
+        Account account = new Account();
+        account.setAccountId(accountId);
+        account.setCurrencyCode("GBP");
+        account.setBalanceAmount(1_000_000);
+        account.setOpeningBalance(1_000_000 + transactions);
+        for (int i = 0; i < transactions; i++) {
+            account.getHistory().append(i + 1, "B", 1, "GBP", true, i);
+        }
+        accountStore.addIfAbsent(account);
+        return account;
+    }
+
+    /**
+     * Given a cold store and a store directory left behind by a store that is gone
+     * When a second store is opened on the same path
+     * Then the abandoned directory is deleted and the open store keeps its segments
+     */
+    @Test
+    void testStoresSharingAPathKeepTheirSegments() throws Exception {
+        ColdHistoryStore first = new ColdHistoryStore(directory);
+        byte[] record = "history".getBytes(StandardCharsets.UTF_8);
+        long location = first.write(ByteBuffer.wrap(record));
+        Path abandoned = Files.createDirectory(directory.resolve("instance-abandoned"));
+        Files.createFile(abandoned.resolve("store.lock"));
+        Files.createFile(abandoned.resolve("history-00000000.seg"));
+
+        ColdHistoryStore second = new ColdHistoryStore(directory);
+
+        assertFalse(Files.exists(abandoned));
+        assertNotEquals(first.directory(), second.directory());
+        assertEquals(ByteBuffer.wrap(record), first.read(location, record.length));
+        first.close();
+        second.close();
+        try (Stream<Path> left = Files.list(directory)) {
+            assertEquals(0, left.count());
+        }
+    }
+
+    private AccountTieringProperties properties(long heapBudgetMb) {
+        AccountTieringProperties properties = new AccountTieringProperties();
+        properties.setHeapBudgetMb(heapBudgetMb);
+        properties.setMinIdleSeconds(0);
+        properties.setPath(directory.toString());
+        return properties;
+    }
+}
@@ -0,0 +1,96 @@
+package com.org.modernbank.transfersystem.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.org.modernbank.transfersystem.config.EventProperties;
+import com.org.modernbank.transfersystem.domain.AccountEvent;
+import com.org.modernbank.transfersystem.domain.ImportResponse;
+import com.org.modernbank.transfersystem.events.EventBus;
+import com.org.modernbank.transfersystem.events.EventSink;
+import com.org.modernbank.transfersystem.repository.AccountStore;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the bulk account import
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+class AccountImportServiceTest {
+
+    /**
+     * Given CSV uploads with and without a header line
+     * When the first data row's account id starts with the header's first field
+     * Then only a real header is skipped and that row is imported
+     */
+    @Test
+    void testOnlyExactHeaderIsSkipped() throws IOException {
+        AccountStore accountStore = new AccountStore();
+        AccountImportService importService = new AccountImportService(accountStore, new ObjectMapper(),
+                new EventBus(new EventProperties()), new EventProperties());
+
+        ImportResponse withHeader = importService.importAccounts(csv("accountId,balanceAmount,currencyCode\n"
+                + "accountId1,10,GBP\n"), AccountImportService.Format.CSV);
+        ImportResponse withoutHeader = importService.importAccounts(csv("accountId2,20,GBP\n"),
+                AccountImportService.Format.CSV);
+
+        assertEquals(1, withHeader.getImportedCount());
+        assertEquals(0, withHeader.getRejectedCount());
+        assertEquals(1, withoutHeader.getImportedCount());
+        assertNotNull(accountStore.get("accountId1"));
+        assertNotNull(accountStore.get("accountId2"));
+    }
+
+    /**
+     * Given a subscriber to the event bus
+     * When accounts are imported
+     * Then every imported account is published as a new account
+     */
+    @Test
+    void testImportedAccountsArePublished() throws IOException, InterruptedException {
+        EventProperties eventProperties = new EventProperties();
+        EventBus eventBus = new EventBus(eventProperties);
+        Map<String, Double> created = new ConcurrentHashMap<>();
+        CountDownLatch received = new CountDownLatch(2);
+        eventBus.subscribe("import", new EventSink() {
+            @Override
+            public void onEvents(List<AccountEvent> events) {
+                for (AccountEvent event : events) {
+                    if (AccountEvent.ACCOUNT_CREATED.equals(event.getType())) {
+                        created.put(event.getAccountId(), event.getBalanceAmount());
+                        received.countDown();
+                    }
+                }
+            }
+
+            @Override
+            public boolean onOverflow(long missedEvents) {
+                return false;
+            }
+        });
+        AccountImportService importService = new AccountImportService(new AccountStore(), new ObjectMapper(),
+                eventBus, eventProperties);
+
+        importService.importAccounts(csv("I1,10,GBP\nI2,20,EUR\nI1,30,GBP\n"), AccountImportService.Format.CSV);
+
+        assertTrue(received.await(10, TimeUnit.SECONDS));
+        assertEquals(2, created.size());
+        assertEquals(10, created.get("I1"));
+        assertEquals(20, created.get("I2"));
+        eventBus.close();
+    }
+
+    private static ByteArrayInputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,247 @@
+package com.org.modernbank.transfersystem.services;
+
+import com.org.modernbank.transfersystem.config.EventProperties;
+import com.org.modernbank.transfersystem.config.HoldProperties;
+import com.org.modernbank.transfersystem.config.TransferLimitProperties;
+import com.org.modernbank.transfersystem.domain.Account;
+import com.org.modernbank.transfersystem.domain.Hold;
+import com.org.modernbank.transfersystem.domain.HoldResponse;
+import com.org.modernbank.transfersystem.domain.ReconciliationReport;
+import com.org.modernbank.transfersystem.events.EventBus;
+import com.org.modernbank.transfersystem.exceptions.AccountException;
+import com.org.modernbank.transfersystem.exceptions.LimitExceededException;
+import com.org.modernbank.transfersystem.ledger.TransferSequence;
+import com.org.modernbank.transfersystem.repository.AccountStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.org.modernbank.transfersystem.constants.ErrorMessageConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for transfer holds
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+class HoldServiceTest {
+
+    private AccountStore accountStore;
+    private TransferSequence transferSequence;
+    private AccountService accountService;
+    private HoldService holdService;
+
+    @BeforeEach
+    void setUp() {
+        accountStore = new AccountStore();
+        transferSequence = new TransferSequence();
+        TransferLimitProperties limits = new TransferLimitProperties();
+        limits.setEnabled(false);
+        TransferLimitService transferLimitService = new TransferLimitService(limits);
+
+        accountService = new AccountService(accountStore, transferLimitService,
+                transferSequence, new EventBus(new EventProperties()));
+        holdService = new HoldService(accountStore, accountService, transferLimitService, new HoldProperties());
+    }
+
+    /**
+     * Given a hold on an account
+     * When part of it is captured
+     * Then only the captured amount moves and the rest is available again
+     */
+    @Test
+    void testPartialCapture() {
+        createAccount("A", 100);
+        createAccount("M", 0);
+
+        HoldResponse authorized = holdService.authorize("A", "M", 60, "GBP", null);
+        assertEquals(100, accountService.getBalance("A").getBalance());
+        assertEquals(40, accountService.getBalance("A").getAvailableBalance());
+        AccountException exception = assertThrows(AccountException.class,
+                () -> accountService.transferAmount("A", "M", 50, "GBP"));
+        assertEquals(INSUFFICIENT_ACCOUNT_BALANCE_IN_SENDER_ACCOUNT, exception.getMessage());
+
+        HoldResponse captured = holdService.capture(authorized.getHold().getHoldId(), 45.0);
+
+        assertEquals(Hold.Status.CAPTURED, captured.getHold().getStatus());
+        assertEquals(45, captured.getTransfer().getAmount());
+        assertEquals(55, accountService.getBalance("A").getAvailableBalance());
+        assertEquals(45, accountService.getBalance("M").getBalance());
+        exception = assertThrows(AccountException.class,
+                () -> holdService.capture(authorized.getHold().getHoldId(), null));
+        assertEquals(HOLD_NOT_FOUND, exception.getMessage());
+    }
+
+    /**
+     * Given holds with different expiry times
+     * When the expiry sweep runs
+     * Then only the expired holds are released
+     */
+    @Test
+    void testExpiredHoldsAreReleased() {
+        createAccount("A", 100);
+        createAccount("M", 0);
+        Hold shortHold = holdService.authorize("A", "M", 30, "GBP", 60L).getHold();
+        Hold longHold = holdService.authorize("A", "M", 20, "GBP", 3_600L).getHold();
+
+        assertEquals(0, holdService.expireHolds(System.currentTimeMillis()));
+        assertEquals(1, holdService.expireHolds(System.currentTimeMillis() + 120_000));
+
+        assertEquals(Hold.Status.EXPIRED, shortHold.getStatus());
+        assertEquals(Hold.Status.AUTHORIZED, longHold.getStatus());
+        assertEquals(80, accountService.getBalance("A").getAvailableBalance());
+        assertEquals(1, holdService.activeHoldCount());
+        assertThrows(AccountException.class, () -> holdService.capture(shortHold.getHoldId(), null));
+        assertEquals(Hold.Status.VOIDED, holdService.voidHold(longHold.getHoldId()).getHold().getStatus());
+        assertEquals(100, accountService.getBalance("A").getAvailableBalance());
+    }
+
+    /**
+     * Given a sender allowed to send 100 per window
+     * When holds are voided, expire or are captured in part
+     * Then the amount that never moved can be held again
+     */
+    @Test
+    void testClosedHoldsHandBackLimitQuota() {
+        TransferLimitProperties limits = new TransferLimitProperties();
+        limits.setMaxTransfersPerSecond(0);
+        limits.setMaxAmountPerWindow(100);
+        TransferLimitService transferLimitService = new TransferLimitService(limits);
+        accountService = new AccountService(accountStore, transferLimitService, transferSequence,
+                new EventBus(new EventProperties()));
+        holdService = new HoldService(accountStore, accountService, transferLimitService, new HoldProperties());
+        createAccount("A", 1_000);
+        createAccount("M", 0);
+
+        Hold voided = holdService.authorize("A", "M", 100, "GBP", null).getHold();
+        holdService.voidHold(voided.getHoldId());
+        holdService.authorize("A", "M", 100, "GBP", 60L);
+        assertEquals(1, holdService.expireHolds(System.currentTimeMillis() + 120_000));
+        Hold captured = holdService.authorize("A", "M", 100, "GBP", null).getHold();
+        holdService.capture(captured.getHoldId(), 40.0);
+
+        holdService.authorize("A", "M", 60, "GBP", null);
+        assertThrows(LimitExceededException.class, () -> holdService.authorize("A", "M", 1, "GBP", null));
+    }
+
+    /**
+     * Given many threads authorizing against one account
+     * When together they ask for more than the balance
+     * Then exactly the balance is put on hold
+     */
+    @Test
+    void testConcurrentAuthorizationsNeverOverReserve() throws Exception {
+        createAccount("A", 1_000);
+        createAccount("M", 0);
+        AtomicInteger authorized = new AtomicInteger();
+
+        runConcurrently(4, () -> {
+            for (int i = 0; i < 500; i++) {
+                try {
+                    holdService.authorize("A", "M", 1, "GBP", null);
+                    authorized.incrementAndGet();
+                } catch (AccountException e) {
+                    assertEquals(INSUFFICIENT_ACCOUNT_BALANCE_IN_SENDER_ACCOUNT, e.getMessage());
+                }
+            }
+        });
+
+        assertEquals(1_000, authorized.get());
+        assertEquals(0, accountService.getBalance("A").getAvailableBalance());
+    }
+
+    /**
+     * Given open holds and direct transfers from the same account
+     * When holds are captured, voided and raced against each other while transfers run
+     * Then every hold ends exactly once, no balance goes negative and the ledger reconciles
+     */
+    @Test
+    void testConcurrentCaptureVoidAndTransfers() throws Exception {
+        createAccount("A", 10_000);
+        createAccount("M", 0);
+        createAccount("B", 0);
+        List<Long> holdIds = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            holdIds.add(holdService.authorize("A", "M", 2, "GBP", null).getHold().getHoldId());
+        }
+        AtomicInteger captured = new AtomicInteger();
+        AtomicInteger voided = new AtomicInteger();
+
+        // two threads race capture against void on every hold, one spends the free balance
+        runConcurrently(3, new Runnable() {
+            private final AtomicInteger thread = new AtomicInteger();
+
+            @Override
+            public void run() {
+                int id = thread.getAndIncrement();
+                if (id == 2) {
+                    for (int i = 0; i < 10_000; i++) {
+                        try {
+                            accountService.transferAmount("A", "B", 1, "GBP");
+                        } catch (AccountException e) {
+                            assertEquals(INSUFFICIENT_ACCOUNT_BALANCE_IN_SENDER_ACCOUNT, e.getMessage());
+                        }
+                    }
+                    return;
+                }
+                for (long holdId : holdIds) {
+                    try {
+                        if (id == 0) {
+                            holdService.capture(holdId, 1.5);
+                            captured.incrementAndGet();
+                        } else {
+                            holdService.voidHold(holdId);
+                            voided.incrementAndGet();
+                        }
+                    } catch (AccountException e) {
+                        assertEquals(HOLD_NOT_FOUND, e.getMessage());
+                    }
+                }
+            }
+        });
+
+        assertEquals(2_000, captured.get() + voided.get());
+        assertEquals(0, holdService.activeHoldCount());
+        double a = accountService.getBalance("A").getBalance();
+        double m = accountService.getBalance("M").getBalance();
+        double b = accountService.getBalance("B").getBalance();
+        assertEquals(captured.get() * 1.5, m, 1e-6);
+        assertTrue(a >= 0);
+        assertEquals(10_000, a + m + b, 1e-6);
+        assertEquals(a, accountService.getBalance("A").getAvailableBalance(), 1e-6);
+        ReconciliationReport report = new ReconciliationService(accountStore, transferSequence).reconcile();
+        assertEquals(0, report.getDriftedAccountCount());
+        assertEquals(0, report.getOrphanedLegCount());
+    }
+
+    private static void runConcurrently(int threads, Runnable task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CyclicBarrier start = new CyclicBarrier(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                task.run();
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+
+    private void createAccount(String accountId, double balance) {
+        Account account = new Account();
+        account.setAccountId(accountId);
+        account.setCurrencyCode("GBP");
+        account.setBalanceAmount(balance);
+        account.setOpeningBalance(balance);
+        accountStore.addIfAbsent(account);
+    }
+}
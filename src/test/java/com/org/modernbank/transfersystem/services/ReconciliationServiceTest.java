@@ -0,0 +1,150 @@
+package com.org.modernbank.transfersystem.services;
+
+import com.org.modernbank.transfersystem.domain.Account;
+import com.org.modernbank.transfersystem.domain.ReconciliationReport;
+import com.org.modernbank.transfersystem.ledger.TransferSequence;
+import com.org.modernbank.transfersystem.repository.AccountStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests for the end of day reconciliation
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+class ReconciliationServiceTest {
+
+    private AccountStore accountStore;
+    private TransferSequence transferSequence;
+    private ReconciliationService reconciliationService;
+
+    @BeforeEach
+    void setUp() {
+        accountStore = new AccountStore();
+        transferSequence = new TransferSequence();
+        reconciliationService = new ReconciliationService(accountStore, transferSequence);
+    }
+
+    /**
+     * Given accounts with matching debit and credit legs
+     * When reconciliation runs
+     * Then there is no drift and no orphaned leg
+     */
+    @Test
+    void testReconcileBalancedLedger() {
+        Account a = createAccount("A", "GBP", 100, 70);
+        Account b = createAccount("B", "GBP", 50, 80);
+        Account c = createAccount("C", "EUR", 10, 10);
+        transfer(a, b, 30);
+
+        ReconciliationReport report = reconciliationService.reconcile();
+
+        assertEquals(3, report.getAccountsScanned());
+        assertEquals(2, report.getTransactionsScanned());
+        assertEquals(0, report.getDriftedAccountCount());
+        assertEquals(0, report.getOrphanedLegCount());
+        assertEquals(2, report.getCurrencyTotals().size());
+        ReconciliationReport.CurrencyTotal gbp = report.getCurrencyTotals().stream()
+                .filter(total -> "GBP".equals(total.getCurrency())).findFirst().get();
+        assertEquals(150, gbp.getTotalBalance());
+        assertEquals(0, gbp.getDrift());
+    }
+
+    /**
+     * Given a debit leg without its credit leg and a balance that does not match its history
+     * When reconciliation runs
+     * Then the orphaned leg and the drifted account are reported
+     */
+    @Test
+    void testReconcileReportsOrphanAndDrift() {
+        Account a = createAccount("A", "GBP", 100, 70);
+        Account b = createAccount("B", "GBP", 50, 50);
+        transfer(a, b, 20);
+        // debit leg of a second transfer with no matching credit
+        a.getHistory().append(transferSequence.next(), "B", 10, "GBP", true, 0);
+        // balance moved without any transaction
+        b.setBalanceAmount(75);
+
+        ReconciliationReport report = reconciliationService.reconcile();
+
+        assertEquals(1, report.getOrphanedLegCount());
+        ReconciliationReport.OrphanedLeg orphanedLeg = report.getOrphanedLegs().get(0);
+        assertEquals("A", orphanedLeg.getDebitAccountId());
+        assertEquals("B", orphanedLeg.getCreditAccountId());
+        assertEquals(2, orphanedLeg.getDebitCount());
+        assertEquals(1, orphanedLeg.getCreditCount());
+
+        assertEquals(1, report.getDriftedAccountCount());
+        assertEquals("B", report.getDriftedAccounts().get(0).getAccountId());
+        assertEquals(5, report.getDriftedAccounts().get(0).getDrift());
+    }
+
+    /**
+     * Given a reconciliation that is still scanning
+     * When a second reconciliation is requested
+     * Then it waits for the running one and gets its report instead of scanning again
+     */
+    @Test
+    void testConcurrentReconciliationJoinsRunningOne() throws InterruptedException {
+        CountDownLatch scanning = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger scans = new AtomicInteger();
+        AccountStore blockingStore = new AccountStore() {
+            @Override
+            public Collection<Account> findAll() {
+                if (scans.incrementAndGet() == 1) {
+                    scanning.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.findAll();
+            }
+        };
+        ReconciliationService service = new ReconciliationService(blockingStore, transferSequence);
+        AtomicReference<ReconciliationReport> first = new AtomicReference<>();
+        AtomicReference<ReconciliationReport> second = new AtomicReference<>();
+
+        Thread running = new Thread(() -> first.set(service.reconcile()));
+        running.start();
+        scanning.await();
+        Thread joining = new Thread(() -> second.set(service.reconcile()));
+        joining.start();
+        while (joining.getState() != Thread.State.WAITING && joining.getState() != Thread.State.TERMINATED) {
+            Thread.yield();
+        }
+        release.countDown();
+        running.join();
+        joining.join();
+
+        assertEquals(1, scans.get());
+        assertSame(first.get(), second.get());
+    }
+
+    private Account createAccount(String accountId, String currencyCode, double openingBalance, double balance) {
+        Account account = new Account();
+        account.setAccountId(accountId);
+        account.setCurrencyCode(currencyCode);
+        account.setOpeningBalance(openingBalance);
+        account.setBalanceAmount(balance);
+        accountStore.addIfAbsent(account);
+        return account;
+    }
+
+    private void transfer(Account from, Account to, double amount) {
+        long transferId = transferSequence.next();
+        from.getHistory().append(transferId, to.getAccountId(), amount, from.getCurrencyCode(), true, 0);
+        to.getHistory().append(transferId, from.getAccountId(), amount, to.getCurrencyCode(), false, 0);
+    }
+}
@@ -0,0 +1,92 @@
+package com.org.modernbank.transfersystem.services;
+
+import com.org.modernbank.transfersystem.config.EventProperties;
+import com.org.modernbank.transfersystem.config.TransferLimitProperties;
+import com.org.modernbank.transfersystem.domain.Account;
+import com.org.modernbank.transfersystem.domain.TransferCommand;
+import com.org.modernbank.transfersystem.events.EventBus;
+import com.org.modernbank.transfersystem.ledger.TransferSequence;
+import com.org.modernbank.transfersystem.repository.AccountStore;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the internal transfer path does not allocate once warm
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+class TransferAllocationTest {
+
+    private static final int TRANSFERS = 10_000;
+
+    /**
+     * Given two warm accounts whose histories have room for more transactions
+     * When transfers are made with a reused command
+     * Then the transferring thread allocates next to nothing
+     */
+    @Test
+    void testTransferDoesNotAllocate() {
+        Assumptions.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        AccountStore accountStore = new AccountStore();
+        accountStore.addIfAbsent(account("A"));
+        accountStore.addIfAbsent(account("B"));
+        AccountService accountService = accountService(accountStore);
+        TransferCommand command = new TransferCommand();
+
+        // warm up, grow both histories past what the measured run appends and let the JIT settle
+        for (int i = 0; i < 2 * TRANSFERS; i++) {
+            transfer(accountService, command, i);
+        }
+        accountStore.get("A").getHistory().clear();
+        accountStore.get("B").getHistory().clear();
+
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < TRANSFERS; i++) {
+            transfer(accountService, command, i);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        // every transfer adds one leg to each account
+        assertEquals(TRANSFERS, command.getFromAccount().getHistory().size());
+        // a handful of bytes per transfer would be an allocation on every call
+        assertTrue(allocated < TRANSFERS, "allocated " + allocated + " bytes for " + TRANSFERS + " transfers");
+    }
+
+    private static void transfer(AccountService accountService, TransferCommand command, int i) {
+        command.reset();
+        command.setFromAccountId(i % 2 == 0 ? "A" : "B");
+        command.setToAccountId(i % 2 == 0 ? "B" : "A");
+        command.setAmount(1);
+        command.setCurrencyCode("GBP");
+        accountService.transfer(command);
+    }
+
+    private static AccountService accountService(AccountStore accountStore) {
+        TransferLimitProperties limits = new TransferLimitProperties();
+        // no rate limit, the amount window alone keeps the limit check on the path
+        limits.setMaxTransfersPerSecond(0);
+        limits.setMaxAmountPerWindow(1_000_000_000);
+
+        return new AccountService(accountStore, new TransferLimitService(limits), new TransferSequence(),
+                new EventBus(new EventProperties()));
+    }
+
+    private static Account account(String accountId) {
+        Account account = new Account();
+        account.setAccountId(accountId);
+        account.setBalanceAmount(1_000_000);
+        account.setCurrencyCode("GBP");
+        return account;
+    }
+}
@@ -0,0 +1,143 @@
+package com.org.modernbank.transfersystem.services;
+
+import com.org.modernbank.transfersystem.config.EventProperties;
+import com.org.modernbank.transfersystem.config.TransferLimitProperties;
+import com.org.modernbank.transfersystem.domain.Account;
+import com.org.modernbank.transfersystem.events.EventBus;
+import com.org.modernbank.transfersystem.exceptions.AccountException;
+import com.org.modernbank.transfersystem.exceptions.LimitExceededException;
+import com.org.modernbank.transfersystem.ledger.TransferSequence;
+import com.org.modernbank.transfersystem.repository.AccountStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.org.modernbank.transfersystem.constants.ErrorMessageConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the transfer limits applied by the transfer path
+ *
+ * @version 1.0
+ * @since 19-10-2026
+ */
+class TransferLimitServiceTest {
+
+    private AccountStore accountStore;
+    private TransferSequence transferSequence;
+    private TransferLimitService transferLimitService;
+    private AccountService accountService;
+
+    @BeforeEach
+    void setUp() {
+        accountStore = new AccountStore();
+        transferSequence = new TransferSequence();
+        TransferLimitProperties limits = new TransferLimitProperties();
+        limits.setMaxTransfersPerSecond(1);
+        limits.setMaxAmountPerWindow(200);
+        limits.setWindowSeconds(60);
+        transferLimitService = new TransferLimitService(limits);
+
+        accountService = new AccountService(accountStore, transferLimitService,
+                transferSequence, new EventBus(new EventProperties()));
+    }
+
+    /**
+     * Given a sender allowed one transfer per second and 200 per window
+     * When a transfer is rejected for an insufficient balance
+     * Then the full rate and amount quota is still available
+     */
+    @Test
+    void testRejectedTransferKeepsQuota() {
+        createAccount("A", 150);
+        createAccount("B", 0);
+
+        AccountException exception = assertThrows(AccountException.class,
+                () -> accountService.transferAmount("A", "B", 180, "GBP"));
+        assertEquals(INSUFFICIENT_ACCOUNT_BALANCE_IN_SENDER_ACCOUNT, exception.getMessage());
+
+        accountService.transferAmount("A", "B", 150, "GBP");
+        assertEquals(150, accountService.getBalance("B").getBalance());
+        LimitExceededException limitExceeded = assertThrows(LimitExceededException.class,
+                () -> accountService.transferAmount("A", "B", 1, "GBP"));
+        assertEquals(TRANSFER_RATE_LIMIT_EXCEEDED, limitExceeded.getMessage());
+    }
+
+    /**
+     * Given a sender with a limiter
+     * When transfers of zero or negative amounts are made
+     * Then they are rejected as invalid without touching the limits
+     */
+    @Test
+    void testNonPositiveAmountIsInvalid() {
+        createAccount("A", 100);
+        createAccount("B", 0);
+
+        AccountException exception = assertThrows(AccountException.class,
+                () -> accountService.transferAmount("A", "B", 0, "GBP"));
+        assertEquals(INVALID_TRANSFER_AMOUNT, exception.getMessage());
+        exception = assertThrows(AccountException.class,
+                () -> accountService.transferAmount("A", "B", -5, "GBP"));
+        assertEquals(INVALID_TRANSFER_AMOUNT, exception.getMessage());
+
+        assertEquals(0, transferLimitService.limiterCount());
+    }
+
+    /**
+     * Given limiters for two senders
+     * When one sender hands its reservation back and the other does not
+     * Then only the idle limiter is evicted
+     */
+    @Test
+    void testIdleLimitersAreEvicted() {
+        long start = transferLimitService.checkLimits("A", 10);
+        long reservedAt = transferLimitService.checkLimits("B", 10);
+        assertEquals(0, transferLimitService.evictIdle(start));
+
+        transferLimitService.release("B", 10, reservedAt);
+        assertEquals(1, transferLimitService.evictIdle(start + TimeUnit.SECONDS.toNanos(1)));
+        assertEquals(1, transferLimitService.limiterCount());
+
+        assertEquals(1, transferLimitService.evictIdle(start + TimeUnit.SECONDS.toNanos(61)));
+        assertEquals(0, transferLimitService.limiterCount());
+    }
+
+    /**
+     * Given a sender with a runtime override well above its configured limits
+     * When it transfers faster than the configured rate and the override is then cleared
+     * Then every transfer goes through until the configured limits apply again
+     */
+    @Test
+    void testRuntimeOverrideUntilCleared() {
+        createAccount("A", 100);
+        createAccount("B", 0);
+        TransferLimitProperties.Limit limit = new TransferLimitProperties.Limit();
+        limit.setMaxTransfersPerSecond(1_000d);
+        transferLimitService.setOverride("A", limit);
+
+        for (int i = 0; i < 5; i++) {
+            accountService.transferAmount("A", "B", 1, "GBP");
+        }
+        assertEquals(5, accountService.getBalance("B").getBalance());
+        assertEquals(5, transferSequence.current());
+        assertEquals(1, transferLimitService.limiterCount());
+
+        transferLimitService.clearOverride("A");
+        assertEquals(0, transferLimitService.limiterCount());
+        accountService.transferAmount("A", "B", 1, "GBP");
+        LimitExceededException limitExceeded = assertThrows(LimitExceededException.class,
+                () -> accountService.transferAmount("A", "B", 1, "GBP"));
+        assertEquals(TRANSFER_RATE_LIMIT_EXCEEDED, limitExceeded.getMessage());
+    }
+
+    private Account createAccount(String accountId, double balance) {
+        Account account = new Account();
+        account.setAccountId(accountId);
+        account.setCurrencyCode("GBP");
+        account.setBalanceAmount(balance);
+        account.setOpeningBalance(balance);
+        accountStore.addIfAbsent(account);
+        return account;
+    }
+}